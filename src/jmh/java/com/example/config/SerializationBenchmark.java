@@ -0,0 +1,90 @@
+package com.example.config;
+
+import com.example.dto.ArticleResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a page of full articles, with the ObjectMapper set
+ * up like the application's. Run with and without the {@link JsonFragmentCache}
+ * to see what the cached fragments save as the content grows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({"200", "2000", "20000"})
+    public int contentLength;
+
+    @Param({"20"})
+    public int pageSize;
+
+    @Param({"false", "true"})
+    public boolean fragmentCache;
+
+    private ObjectMapper objectMapper;
+    private List<ArticleResponseDTO> page;
+
+    @Setup
+    public void setUp() {
+        // Mirrors the spring.jackson.* settings in application.properties
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json()
+                .simpleDateFormat("yyyy-MM-dd'T'HH:mm:ss")
+                .timeZone(TimeZone.getTimeZone("UTC"));
+        if (fragmentCache) {
+            builder.modulesToInstall(new JsonFragmentCache(32L * 1024 * 1024));
+        }
+        objectMapper = builder.build();
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        page = new ArrayList<>(pageSize);
+        for (long id = 1; id <= pageSize; id++) {
+            page.add(ArticleResponseDTO.builder()
+                    .id(id)
+                    .title("Article number " + id)
+                    .author("Author " + id % 5)
+                    .content(content(id))
+                    .publicationDate(now.minusDays(id))
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws IOException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+
+    private String content(long seed) {
+        // Mixed text with quotes and non-ASCII characters so escaping and UTF-8 encoding are exercised
+        String sentence = "Article " + seed + " says \"hello\" to the café, naïve readers. ";
+        StringBuilder content = new StringBuilder(contentLength + sentence.length());
+        while (content.length() < contentLength) {
+            content.append(sentence);
+        }
+        return content.substring(0, contentLength);
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.repository;
+
+import com.example.model.ArticleRollup;
+import com.example.model.RollupGranularity;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Storage cost of the main write and read paths, in-memory H2 against the
+ * file-backed database of the disk profile, both on the schema the Flyway
+ * migrations create. The statements are the ones Hibernate and the rollup
+ * counter issue, run over one plain JDBC connection, so the differences come
+ * from the storage and not from the ORM or the pool.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StorageBenchmark {
+
+    private static final String INSERT_SQL = "INSERT INTO articles " +
+            "(author, content, created_at, excerpt, publication_date, title, updated_at, id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String PAGE_SQL = "SELECT id, title, author, excerpt, publication_date, updated_at " +
+            "FROM articles ORDER BY publication_date DESC, id DESC LIMIT 10 OFFSET 0";
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM articles";
+    private static final String CONTENT = "Lorem ipsum dolor sit amet. ".repeat(40);
+    private static final LocalDateTime FIRST_PUBLICATION = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    /** {@code memory}, or {@code disk:<WRITE_DELAY ms>}; 0 writes on every commit, 500 is the profile default. */
+    @Param({"memory", "disk:0", "disk:500"})
+    public String storage;
+
+    /** Articles in the table before measuring. */
+    @Param({"10000"})
+    public int articles;
+
+    /** Articles per transaction in {@link #insertBatch}, the bulk import chunk is inserted in JDBC batches of 50. */
+    @Param({"50"})
+    public int batchSize;
+
+    private Path directory;
+    private Connection connection;
+    private long nextId;
+
+    @Setup
+    public void setUp() throws Exception {
+        String url;
+        if (storage.equals("memory")) {
+            url = "jdbc:h2:mem:storage-benchmark;DB_CLOSE_DELAY=-1";
+        } else {
+            directory = Files.createTempDirectory("storage-benchmark");
+            url = "jdbc:h2:file:" + directory.resolve("blogdb") + ";WRITE_DELAY=" + storage.substring("disk:".length())
+                    + ";CACHE_SIZE=65536";
+        }
+        Flyway.configure().dataSource(url, "sa", "").load().migrate();
+
+        connection = DriverManager.getConnection(url, "sa", "");
+        connection.setAutoCommit(false);
+        for (int i = 0; i < articles; i += batchSize) {
+            insertArticles(Math.min(batchSize, articles - i));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException, IOException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SHUTDOWN");
+        }
+        connection.close();
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+            }
+        }
+    }
+
+    /** POST /api/articles/create: one article and its six rollup counters per transaction. */
+    @Benchmark
+    public void createArticle() throws SQLException {
+        LocalDateTime publicationDate = insertArticleRows(1);
+        try (PreparedStatement increment = connection.prepareStatement(ArticleRollupCounterImpl.INCREMENT_SQL)) {
+            for (RollupGranularity level : RollupGranularity.values()) {
+                for (String author : new String[]{ArticleRollup.ALL_AUTHORS, "author-0"}) {
+                    increment.setString(1, level.name());
+                    increment.setTimestamp(2, Timestamp.valueOf(level.truncate(publicationDate)));
+                    increment.setString(3, author);
+                    increment.setLong(4, 1);
+                    increment.executeUpdate();
+                }
+            }
+        }
+        connection.commit();
+    }
+
+    /** One chunk of a bulk import, without the rollups. */
+    @Benchmark
+    public void insertBatch() throws SQLException {
+        insertArticles(batchSize);
+    }
+
+    /** GET /api/articles: the first page and the total behind it. */
+    @Benchmark
+    public void listFirstPage(Blackhole blackhole) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet rows = statement.executeQuery(PAGE_SQL)) {
+                while (rows.next()) {
+                    blackhole.consume(rows.getLong(1));
+                    blackhole.consume(rows.getString(2));
+                    blackhole.consume(rows.getString(4));
+                    blackhole.consume(rows.getTimestamp(5));
+                }
+            }
+            try (ResultSet count = statement.executeQuery(COUNT_SQL)) {
+                count.next();
+                blackhole.consume(count.getLong(1));
+            }
+        }
+        connection.commit();
+    }
+
+    private void insertArticles(int count) throws SQLException {
+        insertArticleRows(count);
+        connection.commit();
+    }
+
+    private LocalDateTime insertArticleRows(int count) throws SQLException {
+        LocalDateTime publicationDate = null;
+        try (PreparedStatement insert = connection.prepareStatement(INSERT_SQL)) {
+            for (int i = 0; i < count; i++) {
+                long id = ++nextId;
+                publicationDate = FIRST_PUBLICATION.plusMinutes(id);
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                insert.setString(1, "author-" + id % 20);
+                insert.setString(2, CONTENT);
+                insert.setTimestamp(3, now);
+                insert.setString(4, CONTENT.substring(0, 200) + "...");
+                insert.setTimestamp(5, Timestamp.valueOf(publicationDate));
+                insert.setString(6, "Article " + id);
+                insert.setTimestamp(7, now);
+                insert.setLong(8, id);
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        return publicationDate;
+    }
+}
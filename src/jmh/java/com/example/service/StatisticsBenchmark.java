@@ -0,0 +1,121 @@
+package com.example.service;
+
+import com.example.dto.StatisticsBucketDTO;
+import com.example.dto.StatisticsGranularity;
+import com.example.model.ArticleRollup;
+import com.example.model.ArticleRollupId;
+import com.example.model.RollupGranularity;
+import com.example.repository.ArticleRollupRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory part of a statistics request: planning the rollup segments,
+ * summing the stored rows into output buckets and zero-filling the gaps.
+ * The repository is replaced by a stub answering from pre-built rows, so the
+ * numbers exclude the database round trips.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StatisticsBenchmark {
+
+    private static final LocalDateTime FROM = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    /** The 7-day endpoint, a month of hours and a year of months. */
+    @Param({"DAY:7", "HOUR:30", "MONTH:365"})
+    public String window;
+
+    @Param({"false", "true"})
+    public boolean byAuthor;
+
+    @Param({"20"})
+    public int authors;
+
+    private ArticleRollupService articleRollupService;
+    private StatisticsGranularity granularity;
+    private LocalDateTime to;
+
+    @Setup
+    public void setUp() {
+        String[] parts = window.split(":");
+        granularity = StatisticsGranularity.valueOf(parts[0]);
+        to = FROM.plusDays(Integer.parseInt(parts[1]));
+
+        // A stored row for every bucket of every level, every other author
+        List<ArticleRollup> rows = new ArrayList<>();
+        for (RollupGranularity level : RollupGranularity.values()) {
+            for (LocalDateTime bucket = FROM; bucket.isBefore(to); bucket = level.next(bucket)) {
+                rows.add(rollup(level, bucket, ArticleRollup.ALL_AUTHORS, authors));
+                for (int author = 0; author < authors; author += 2) {
+                    rows.add(rollup(level, bucket, "author-" + author, 2));
+                }
+            }
+        }
+        articleRollupService = new ArticleRollupService(stubRepository(rows));
+    }
+
+    @Benchmark
+    public List<StatisticsBucketDTO> getStatistics() {
+        return articleRollupService.getStatistics(FROM, to, granularity, byAuthor);
+    }
+
+    private static ArticleRollup rollup(RollupGranularity level, LocalDateTime bucket, String author, long count) {
+        return new ArticleRollup(new ArticleRollupId(level, bucket, author), count);
+    }
+
+    private static ArticleRollupRepository stubRepository(List<ArticleRollup> rows) {
+        // Rows indexed like the primary key, so a lookup costs about as little as the range scan it stands for
+        Map<RollupGranularity, NavigableMap<LocalDateTime, List<ArticleRollup>>> allAuthors =
+                new EnumMap<>(RollupGranularity.class);
+        Map<RollupGranularity, NavigableMap<LocalDateTime, List<ArticleRollup>>> byAuthor =
+                new EnumMap<>(RollupGranularity.class);
+        for (ArticleRollup row : rows) {
+            ArticleRollupId id = row.getId();
+            (id.getAuthor().equals(ArticleRollup.ALL_AUTHORS) ? allAuthors : byAuthor)
+                    .computeIfAbsent(id.getGranularity(), level -> new TreeMap<>())
+                    .computeIfAbsent(id.getBucketStart(), bucket -> new ArrayList<>())
+                    .add(row);
+        }
+
+        return (ArticleRollupRepository) Proxy.newProxyInstance(
+                ArticleRollupRepository.class.getClassLoader(),
+                new Class<?>[] {ArticleRollupRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findBuckets" -> select(allAuthors.get((RollupGranularity) args[0]),
+                            (LocalDateTime) args[2], (LocalDateTime) args[3]);
+                    case "findAuthorBuckets" -> select(byAuthor.get((RollupGranularity) args[0]),
+                            (LocalDateTime) args[1], (LocalDateTime) args[2]);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static List<ArticleRollup> select(NavigableMap<LocalDateTime, List<ArticleRollup>> rows,
+                                              LocalDateTime from, LocalDateTime to) {
+        List<ArticleRollup> selected = new ArrayList<>();
+        rows.subMap(from, true, to, false).values().forEach(selected::addAll);
+        return selected;
+    }
+}
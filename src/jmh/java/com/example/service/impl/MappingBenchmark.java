@@ -0,0 +1,56 @@
+package com.example.service.impl;
+
+import com.example.dto.ArticleResponseDTO;
+import com.example.model.Article;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a loaded {@link Article} entity into the response DTO.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private ArticleServiceImpl articleService;
+    private Article article;
+
+    @Setup
+    public void setUp() {
+        // mapToDTO touches none of the collaborators
+        articleService = new ArticleServiceImpl(null, null, null, null);
+
+        LocalDateTime now = Article.currentTimestamp();
+        String content = "x".repeat(2000);
+        article = Article.builder()
+                .id(42L)
+                .title("Benchmarking the mapping layer")
+                .author("Test Author")
+                .content(content)
+                .excerpt(Article.excerptOf(content))
+                .publicationDate(now)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    @Benchmark
+    public ArticleResponseDTO mapToDTO() {
+        return articleService.mapToDTO(article);
+    }
+}
@@ -1,12 +1,23 @@
 package com.example;
 
+import com.example.config.NativeRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Blog API Application
  */
-@SpringBootApplication
+// R2DBC is only used by the reactive read path (ReactiveConfig); an auto-configured
+// ConnectionFactory would switch off the JDBC DataSource that JPA runs on
+@SpringBootApplication(exclude = {R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
+@EnableScheduling
+@EnableCaching
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class App {
     public static void main(String[] args) {
         SpringApplication.run(App.class, args);
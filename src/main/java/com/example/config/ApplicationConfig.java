@@ -1,13 +1,20 @@
 package com.example.config;
 
+import com.example.controller.ArticleController;
 import com.example.model.Role;
 import com.example.model.User;
 import com.example.repository.UserRepository;
+import com.example.service.ArticleRollupService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationRunner;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
@@ -18,6 +25,18 @@ public class ApplicationConfig {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
+    /**
+     * Keeps the public article routes, and through them the article services, eager when
+     * {@code spring.main.lazy-initialization} is on (the fast-start profile). Scaled-out
+     * instances are added for that traffic, so creating them lazily would only move their
+     * cost onto the first requests and hide wiring errors until then. Static, since the
+     * filters are read before any other bean exists.
+     */
+    @Bean
+    public static LazyInitializationExcludeFilter eagerArticleRoutes() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ArticleController.class);
+    }
+
     @Bean
     public CommandLineRunner initializeData() {
         return args -> {
@@ -51,4 +70,24 @@ public class ApplicationConfig {
             log.info("✅ Initial users created successfully!");
         };
     }
-}
\ No newline at end of file
+
+    @Bean
+    @ConditionalOnProperty(name = "blog.statistics.rebuild-on-startup", havingValue = "true", matchIfMissing = true)
+    public ApplicationRunner rebuildArticleRollups(ArticleRollupService articleRollupService) {
+        // Repairs the rollups for any articles written before they were maintained
+        return args -> articleRollupService.rebuild();
+    }
+
+    @Bean
+    public ApplicationRunner reportThreadingMode(Environment environment) {
+        return args -> {
+            if (Threading.VIRTUAL.isActive(environment)) {
+                log.info("🧵 Serving requests on virtual threads");
+            } else if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+                // Boot ignores the setting before Java 21, so say so rather than let a benchmark mislead
+                log.warn("⚠️ spring.threads.virtual.enabled is set, but Java {} has no virtual threads; "
+                        + "serving requests on platform threads", Runtime.version().feature());
+            }
+        };
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+@Configuration
+public class JsonConfig {
+
+    @Bean
+    public JsonFragmentCache jsonFragmentCache(
+            @Value("${blog.json.fragment-cache.maximum-size:32MB}") DataSize maximumSize) {
+        // Registered with Boot's ObjectMapper like any other Jackson Module bean
+        return new JsonFragmentCache(maximumSize.toBytes());
+    }
+
+    @Bean
+    public MeterBinder jsonFragmentCacheMetrics(JsonFragmentCache jsonFragmentCache) {
+        // Publishes cache.gets{cache=jsonFragments,result=hit|miss}, evictions and size
+        return registry -> CaffeineCacheMetrics.monitor(registry, jsonFragmentCache.getFragments(), "jsonFragments");
+    }
+}
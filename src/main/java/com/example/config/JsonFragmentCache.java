@@ -0,0 +1,124 @@
+package com.example.config;
+
+import com.example.dto.ArticleResponseDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+/**
+ * Jackson module that serializes each article DTO once per revision and then
+ * writes the cached UTF-8 bytes straight into the output. A listing of
+ * unchanged articles is assembled from those fragments without running the
+ * bean serializer or re-encoding titles and content.
+ * <p>
+ * Fragments are keyed by DTO type, article id and {@code updatedAt}, so an
+ * edited article gets a new entry and the old one ages out. The cache is
+ * bounded by the total size of the cached JSON.
+ */
+public class JsonFragmentCache extends SimpleModule {
+
+    private final Cache<FragmentKey, SerializedString> fragments;
+
+    public JsonFragmentCache(long maximumBytes) {
+        super("JsonFragmentCache");
+        this.fragments = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((FragmentKey key, SerializedString fragment) -> fragment.asUnquotedUTF8().length)
+                .recordStats()
+                .build();
+
+        setSerializerModifier(new BeanSerializerModifier() {
+            @Override
+            public JsonSerializer<?> modifySerializer(SerializationConfig config, BeanDescription beanDesc,
+                                                      JsonSerializer<?> serializer) {
+                Class<?> type = beanDesc.getBeanClass();
+                if (type == ArticleSummaryDTO.class) {
+                    return new FragmentSerializer<>(ArticleSummaryDTO.class, serializer,
+                            dto -> key(type, dto.getId(), dto.getUpdatedAt()));
+                }
+                if (type == ArticleResponseDTO.class) {
+                    return new FragmentSerializer<>(ArticleResponseDTO.class, serializer,
+                            dto -> key(type, dto.getId(), dto.getUpdatedAt()));
+                }
+                return serializer;
+            }
+        });
+    }
+
+    public Cache<FragmentKey, SerializedString> getFragments() {
+        return fragments;
+    }
+
+    private static FragmentKey key(Class<?> type, Long id, LocalDateTime updatedAt) {
+        return id == null ? null : new FragmentKey(type, id, updatedAt);
+    }
+
+    public record FragmentKey(Class<?> type, Long id, LocalDateTime updatedAt) {
+    }
+
+    private class FragmentSerializer<T> extends StdSerializer<T> implements ResolvableSerializer {
+
+        private final JsonSerializer<Object> delegate;
+        private final Function<T, FragmentKey> keyFunction;
+
+        @SuppressWarnings("unchecked")
+        FragmentSerializer(Class<T> type, JsonSerializer<?> delegate, Function<T, FragmentKey> keyFunction) {
+            super(type);
+            this.delegate = (JsonSerializer<Object>) delegate;
+            this.keyFunction = keyFunction;
+        }
+
+        @Override
+        public void resolve(SerializerProvider provider) throws JsonMappingException {
+            // Bean serializers resolve their property serializers lazily; pass that on
+            if (delegate instanceof ResolvableSerializer resolvable) {
+                resolvable.resolve(provider);
+            }
+        }
+
+        @Override
+        public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            FragmentKey key = keyFunction.apply(value);
+            ObjectCodec codec = gen.getCodec();
+            if (key == null || codec == null) {
+                delegate.serialize(value, gen, provider);
+                return;
+            }
+
+            SerializedString fragment = fragments.getIfPresent(key);
+            if (fragment == null) {
+                fragment = render(value, codec, provider);
+                fragments.put(key, fragment);
+            }
+            gen.writeRawValue(fragment);
+        }
+
+        private SerializedString render(T value, ObjectCodec codec, SerializerProvider provider) throws IOException {
+            StringWriter json = new StringWriter();
+            try (JsonGenerator fragmentGenerator = codec.getFactory().createGenerator(json)) {
+                delegate.serialize(value, fragmentGenerator, provider);
+            }
+            SerializedString fragment = new SerializedString(json.toString());
+            // Encode once now; later writes copy these bytes
+            fragment.asUnquotedUTF8();
+            return fragment;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.config;
+
+import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleCursorPageDTO;
+import com.example.dto.ArticleResponseDTO;
+import com.example.dto.ArticleSearchHitDTO;
+import com.example.dto.ArticleSearchResultDTO;
+import com.example.dto.ArticleSliceDTO;
+import com.example.dto.ArticleStatisticsDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.dto.BulkImportResultDTO;
+import com.example.dto.BulkItemResultDTO;
+import com.example.dto.LoginRequestDTO;
+import com.example.dto.StatisticsBucketDTO;
+import com.example.dto.TokenResponseDTO;
+import com.example.model.Article;
+import com.example.model.ArticleRollup;
+import com.example.model.ArticleRollupId;
+import com.example.model.User;
+import com.example.service.ArticleTableVersion;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeHint;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.data.domain.AbstractPageRequest;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image ({@code mvn -Pnative}),
+ * for what Spring AOT cannot see from the bean definitions and controller
+ * signatures alone.
+ * <p>
+ * Spring Security, Hibernate, H2 and Caffeine bring their own hints or
+ * reachability metadata. The entities are registered here as well, since
+ * Hibernate instantiates them and reads and writes their fields reflectively.
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    // Lombok-generated getters, setters and builders that Jackson binds reflectively, including in
+    // the bulk import, the NDJSON streams and the JSON fragment cache, which bypass the controller types
+    private static final List<Class<?>> JSON_TYPES = List.of(
+            ArticleCreateDTO.class, ArticleCursorPageDTO.class, ArticleResponseDTO.class,
+            ArticleSearchHitDTO.class, ArticleSearchResultDTO.class, ArticleSliceDTO.class,
+            ArticleStatisticsDTO.class, ArticleSummaryDTO.class, BulkImportResultDTO.class,
+            BulkItemResultDTO.class, LoginRequestDTO.class, StatisticsBucketDTO.class,
+            TokenResponseDTO.class, PageImpl.class);
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            Article.class, ArticleRollup.class, ArticleRollupId.class, User.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(
+                hints.reflection(), JSON_TYPES.toArray(Class<?>[]::new));
+
+        ENTITIES.forEach(type -> hints.reflection().registerType(type,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS));
+
+        // Evaluated by SpEL in the @Cacheable keys and conditions of ArticleServiceImpl
+        hints.reflection().registerType(ArticleTableVersion.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerTypes(TypeReference.listOf(PageRequest.class, AbstractPageRequest.class),
+                TypeHint.builtWith(MemberCategory.INVOKE_PUBLIC_METHODS));
+
+        // Flyway (disk profile) lists its migrations from the classpath
+        hints.resources().registerPattern("db/migration/*.sql");
+    }
+}
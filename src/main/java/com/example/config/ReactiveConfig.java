@@ -0,0 +1,68 @@
+package com.example.config;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * R2DBC access to the article tables for the {@code /api/reactive} endpoints.
+ * <p>
+ * The pool is deliberately not a bean: Boot backs off its DataSource (and with
+ * it JPA) as soon as a {@code ConnectionFactory} bean exists, so only the
+ * {@link DatabaseClient} built on top of it is exposed.
+ * <p>
+ * r2dbc-h2 runs H2's embedded engine, which blocks, on the thread that
+ * subscribes, and under Spring MVC that is the request thread. The
+ * {@link #reactiveScheduler} moves that work to threads of its own, one per
+ * pooled connection, so the request thread is handed back to Tomcat.
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.reactive.enabled", havingValue = "true", matchIfMissing = true)
+public class ReactiveConfig implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+    private final Scheduler scheduler;
+
+    public ReactiveConfig(@Value("${blog.reactive.url}") String url,
+                          @Value("${spring.datasource.username:}") String username,
+                          @Value("${spring.datasource.password:}") String password,
+                          @Value("${blog.reactive.pool.max-size:10}") int maxSize) {
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("reactive")
+                .initialSize(0)
+                .maxSize(maxSize)
+                .build());
+        // More threads than connections would only wait for the pool
+        this.scheduler = Schedulers.newBoundedElastic(maxSize, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "r2dbc");
+    }
+
+    @Bean
+    public DatabaseClient reactiveDatabaseClient() {
+        return DatabaseClient.create(connectionPool);
+    }
+
+    @Bean
+    public Scheduler reactiveScheduler() {
+        return scheduler;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+        connectionPool.dispose();
+    }
+}
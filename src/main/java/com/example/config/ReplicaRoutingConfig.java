@@ -0,0 +1,79 @@
+package com.example.config;
+
+import com.example.datasource.PrimaryStickiness;
+import com.example.datasource.ReplicaRoutingDataSource;
+import com.example.service.ArticleTableVersion;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured DataSource with one that routes read-only
+ * transactions to the replicas in {@code blog.datasource.replica-urls}.
+ * <p>
+ * Only the routed DataSource is a bean, so the query-counting proxy and the
+ * health check see one DataSource. The pools behind it are closed here and
+ * report their metrics per pool ({@code pool="primary"}, {@code "replica-1"}, ...).
+ */
+@Configuration
+@ConditionalOnProperty(name = "blog.datasource.replica-urls")
+@Slf4j
+public class ReplicaRoutingConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry,
+                                 @Value("${blog.datasource.replica-urls}") List<String> replicaUrls,
+                                 @Value("${blog.datasource.replica-lag:5s}") Duration replicaLag,
+                                 ArticleTableVersion articleTableVersion) {
+
+        HikariDataSource primary = pool("primary", properties.determineUrl(), properties, environment, meterRegistry);
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < replicaUrls.size(); i++) {
+            replicas.add(pool("replica-" + (i + 1), replicaUrls.get(i), properties, environment, meterRegistry));
+        }
+        log.info("🔀 Routing read-only transactions to {} replica(s), writers stick to the primary for {}",
+                replicas.size(), replicaLag);
+
+        // Within the lag a replica may miss the latest articles: keep the writer's reads on the primary,
+        // and keep pages that may have been read from a replica out of the shared page cache
+        articleTableVersion.setReplicaLag(replicaLag);
+        return new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replicas, new PrimaryStickiness(replicaLag)));
+    }
+
+    // Replicas take the primary's credentials and spring.datasource.hikari.* settings
+    private HikariDataSource pool(String name, String url, DataSourceProperties properties, Environment environment,
+                                  MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricRegistry(meterRegistry);
+        pools.add(pool);
+        return pool;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
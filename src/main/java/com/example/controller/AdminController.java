@@ -0,0 +1,54 @@
+package com.example.controller;
+
+import com.example.dto.ExportFormat;
+import com.example.service.ArticleExportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+@Slf4j
+public class AdminController {
+
+    private final ArticleExportService articleExportService;
+
+    @GetMapping("/articles/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportArticles(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) throws IOException {
+
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("📮 Received request to export articles as {}{}", exportFormat, gzip ? " (gzip)" : "");
+
+        String filename = "articles." + exportFormat.getFileExtension() + (gzip ? ".gz" : "");
+        response.setContentType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString());
+
+        // Written straight to the servlet output stream; nothing is buffered beyond the stream buffers
+        if (gzip) {
+            GZIPOutputStream output = new GZIPOutputStream(response.getOutputStream(), 64 * 1024);
+            articleExportService.exportArticles(exportFormat, output);
+            output.finish();
+        } else {
+            OutputStream output = response.getOutputStream();
+            articleExportService.exportArticles(exportFormat, output);
+        }
+        response.flushBuffer();
+    }
+}
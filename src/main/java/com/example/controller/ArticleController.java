@@ -2,16 +2,28 @@ package com.example.controller;
 
 import com.example.dto.ArticleCreateDTO;
 import com.example.dto.ArticleResponseDTO;
+import com.example.dto.ArticleSearchResultDTO;
+import com.example.dto.BulkImportResultDTO;
+import com.example.dto.ListingMode;
+import com.example.service.ArticleImportService;
+import com.example.service.ArticleSearchService;
 import com.example.service.ArticleService;
+import com.example.service.ArticleTableVersion;
+import com.example.service.ArticleWriteBehindService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 
 @RestController
 @RequestMapping("/api/articles")
@@ -20,20 +32,86 @@ import org.springframework.web.bind.annotation.*;
 public class ArticleController {
 
     private final ArticleService articleService;
+    private final ArticleImportService articleImportService;
+    private final ArticleWriteBehindService articleWriteBehindService;
+    private final ArticleTableVersion articleTableVersion;
+    private final ArticleSearchService articleSearchService;
 
     @PostMapping("/create")
     public ResponseEntity<ArticleResponseDTO> createArticle(@RequestBody @Valid ArticleCreateDTO articleCreateDTO) {
         log.info("📮 Received request to create a new article");
+        if (articleWriteBehindService.isEnabled()) {
+            ArticleResponseDTO accepted = articleWriteBehindService.submit(articleCreateDTO);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/articles/" + accepted.getId()))
+                    .body(accepted);
+        }
         return ResponseEntity.status(HttpStatus.CREATED).body(articleService.createArticle(articleCreateDTO));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkImportResultDTO> importArticles(InputStream body) throws IOException {
+        log.info("📮 Received request to bulk import articles");
+        return ResponseEntity.ok(articleImportService.importArticles(body));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<ArticleSearchResultDTO> searchArticles(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        log.info("📮 Received request to search articles for '{}'", q);
+        ResponseEntity.BodyBuilder ok =
+                ArticleResponses.okUnlessNotModified(webRequest, articleTableVersion, ArticleResponses.REVALIDATE);
+        if (ok == null) {
+            return null;
+        }
+        return ok.body(articleSearchService.search(q, page, size));
+    }
+
+    @GetMapping("/{id:\\d+}")
+    public ResponseEntity<ArticleResponseDTO> getArticle(@PathVariable Long id, WebRequest webRequest) {
+        log.info("📮 Received request to fetch article {}", id);
+        ResponseEntity.BodyBuilder ok =
+                ArticleResponses.okUnlessNotModified(webRequest, articleTableVersion, ArticleResponses.REVALIDATE);
+        if (ok == null) {
+            return null;
+        }
+        return ok.body(articleService.getArticle(id));
+    }
+
     @GetMapping
-    public ResponseEntity<Page<ArticleResponseDTO>> getAllArticles(
+    public ResponseEntity<?> getAllArticles(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "offset") String mode,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String author,
+            WebRequest webRequest) {
+
+        // A cursor only makes sense for keyset paging, and author timelines are only served that way
+        ListingMode listingMode = cursor != null || author != null ? ListingMode.CURSOR : ListingMode.from(mode);
+
+        // Validators come from the table version alone, so a 304 costs no query and no serialization
+        ResponseEntity.BodyBuilder ok =
+                ArticleResponses.okUnlessNotModified(webRequest, articleTableVersion, ArticleResponses.REVALIDATE);
+        if (ok == null) {
+            log.info("📮 Articles unchanged, answering 304");
+            return null;
+        }
+
+        if (listingMode == ListingMode.CURSOR) {
+            log.info("📮 Received request to fetch articles after cursor {} with size {}", cursor, size);
+            return ok.body(articleService.getArticlesByCursor(author, cursor, size));
+        }
 
         log.info("📮 Received request to fetch articles page {} with size {}", page, size);
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok(articleService.getAllArticles(pageable));
+        if (listingMode == ListingMode.SLICE) {
+            return ok.body(articleService.getArticleSlice(pageable));
+        }
+        return ok.body(articleService.getAllArticles(pageable));
     }
 }
\ No newline at end of file
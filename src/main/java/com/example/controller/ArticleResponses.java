@@ -0,0 +1,48 @@
+package com.example.controller;
+
+import com.example.service.ArticleTableVersion;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET handling for responses derived from the articles table.
+ * <p>
+ * The validators come from {@link ArticleTableVersion}. Until the version is
+ * {@link ArticleTableVersion#isSettled settled} a read may have been served by
+ * a replica that has not applied the latest insert, so the response carries no
+ * validators and must not be stored: otherwise a client or CDN could revalidate
+ * that stale body into a 304 until the next write.
+ */
+final class ArticleResponses {
+
+    // Stored by clients and shared caches, but revalidated with the ETag on every use
+    static final CacheControl REVALIDATE = CacheControl.noCache().cachePublic();
+
+    // Admin-only data: clients may keep it for revalidation, shared caches may not
+    static final CacheControl REVALIDATE_PRIVATE = CacheControl.noCache().cachePrivate();
+
+    private ArticleResponses() {
+    }
+
+    /**
+     * Builder for a 200 answer, or {@code null} when a 304 has been written
+     * because the request's validators match the current table version.
+     */
+    static ResponseEntity.BodyBuilder okUnlessNotModified(WebRequest webRequest, ArticleTableVersion articleTableVersion,
+                                                          CacheControl cacheControl) {
+        return okUnlessNotModified(webRequest, articleTableVersion, cacheControl,
+                articleTableVersion.etag(), articleTableVersion.lastModified());
+    }
+
+    static ResponseEntity.BodyBuilder okUnlessNotModified(WebRequest webRequest, ArticleTableVersion articleTableVersion,
+                                                          CacheControl cacheControl, String etag, long lastModified) {
+        if (!articleTableVersion.isSettled()) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noStore());
+        }
+        if (webRequest.checkNotModified(etag, lastModified)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(cacheControl);
+    }
+}
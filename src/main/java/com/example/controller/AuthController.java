@@ -0,0 +1,35 @@
+package com.example.controller;
+
+import com.example.dto.LoginRequestDTO;
+import com.example.dto.TokenResponseDTO;
+import com.example.security.TokenService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+@Slf4j
+public class AuthController {
+
+    private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
+
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponseDTO> issueToken(@RequestBody @Valid LoginRequestDTO loginRequestDTO) {
+        log.info("🔑 Received token request for user: {}", loginRequestDTO.getUsername());
+        Authentication authentication = authenticationManager.authenticate(
+                UsernamePasswordAuthenticationToken.unauthenticated(
+                        loginRequestDTO.getUsername(), loginRequestDTO.getPassword()));
+        return ResponseEntity.ok(tokenService.issueToken(authentication));
+    }
+}
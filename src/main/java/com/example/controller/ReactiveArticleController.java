@@ -0,0 +1,80 @@
+package com.example.controller;
+
+import com.example.dto.ArticleStatisticsDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.service.ArticleTableVersion;
+import com.example.service.ReactiveArticleService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Non-blocking variants of the article listing and 7-day statistics. The
+ * queries run on the R2DBC scheduler threads rather than the request thread,
+ * and the response is completed asynchronously. Asking for {@code application/x-ndjson} streams
+ * one JSON document per row as the rows arrive instead of buffering a page.
+ */
+@RestController
+@RequestMapping("/api/reactive")
+@ConditionalOnProperty(name = "blog.reactive.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveArticleController {
+
+    private final ReactiveArticleService reactiveArticleService;
+    private final ArticleTableVersion articleTableVersion;
+
+    @GetMapping(value = "/articles", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<Mono<Page<ArticleSummaryDTO>>> getAllArticles(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest webRequest) {
+
+        if (webRequest.checkNotModified(articleTableVersion.etag(), articleTableVersion.lastModified())) {
+            log.info("📮 Articles unchanged, answering 304");
+            return null;
+        }
+
+        log.info("📮 Received reactive request to fetch articles page {} with size {}", page, size);
+        // Headers go out with the first dispatch, ahead of Spring Security's no-store default
+        return ResponseEntity.ok().cacheControl(ArticleResponses.REVALIDATE)
+                .body(reactiveArticleService.getAllArticles(PageRequest.of(page, size)));
+    }
+
+    @GetMapping(value = "/articles", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<ArticleSummaryDTO> streamArticles(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        log.info("📮 Received request to stream articles page {} with size {}", page, size);
+        return reactiveArticleService.streamArticles(PageRequest.of(page, size));
+    }
+
+    @GetMapping(value = "/statistics", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public Mono<List<ArticleStatisticsDTO>> getArticleStatistics() {
+        log.info("📊 Received reactive request to fetch article statistics for the last 7 days");
+        return reactiveArticleService.getArticleStatisticsForLast7Days().collectList();
+    }
+
+    @GetMapping(value = "/statistics", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public Flux<ArticleStatisticsDTO> streamArticleStatistics() {
+        log.info("📊 Received request to stream article statistics for the last 7 days");
+        return reactiveArticleService.getArticleStatisticsForLast7Days();
+    }
+}
@@ -1,15 +1,24 @@
 package com.example.controller;
 
 import com.example.dto.ArticleStatisticsDTO;
+import com.example.dto.StatisticsBucketDTO;
+import com.example.dto.StatisticsGranularity;
 import com.example.service.ArticleService;
+import com.example.service.ArticleTableVersion;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 @RestController
@@ -19,11 +28,40 @@ import java.util.List;
 public class StatisticsController {
 
     private final ArticleService articleService;
+    private final ArticleTableVersion articleTableVersion;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ArticleStatisticsDTO>> getArticleStatistics() {
+    public ResponseEntity<List<ArticleStatisticsDTO>> getArticleStatistics(WebRequest webRequest) {
         log.info("📊 Received request to fetch article statistics for the last 7 days");
-        return ResponseEntity.ok(articleService.getArticleStatisticsForLast7Days());
+        // The 7-day window moves at midnight, so the date is part of both validators
+        LocalDate today = LocalDate.now();
+        long lastModified = Math.max(articleTableVersion.lastModified(),
+                today.atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        ResponseEntity.BodyBuilder ok = ArticleResponses.okUnlessNotModified(webRequest, articleTableVersion,
+                ArticleResponses.REVALIDATE_PRIVATE, articleTableVersion.etag(today), lastModified);
+        if (ok == null) {
+            return null;
+        }
+        return ok.body(articleService.getArticleStatisticsForLast7Days());
+    }
+
+    @GetMapping("/range")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<StatisticsBucketDTO>> getArticleStatisticsForRange(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "day") String granularity,
+            @RequestParam(defaultValue = "false") boolean byAuthor,
+            WebRequest webRequest) {
+
+        log.info("📊 Received request to fetch {} article statistics from {} to {}", granularity, from, to);
+        StatisticsGranularity statisticsGranularity = StatisticsGranularity.from(granularity);
+        ResponseEntity.BodyBuilder ok = ArticleResponses.okUnlessNotModified(
+                webRequest, articleTableVersion, ArticleResponses.REVALIDATE_PRIVATE);
+        if (ok == null) {
+            return null;
+        }
+        return ok.body(articleService.getArticleStatistics(from, to, statisticsGranularity, byAuthor));
     }
 }
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.example.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+
+/**
+ * Remembers which clients wrote recently, so their reads can stay on the
+ * primary until the replicas have caught up: a user who creates an article
+ * and then lists articles sees it, whatever the replication lag. Clients are
+ * told apart by their authenticated username; anonymous requests never write.
+ */
+public class PrimaryStickiness {
+
+    private static final int MAXIMUM_CLIENTS = 100_000;
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public PrimaryStickiness(Duration window) {
+        this(window, Ticker.systemTicker());
+    }
+
+    PrimaryStickiness(Duration window, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(MAXIMUM_CLIENTS)
+                .expireAfterWrite(window)
+                .ticker(ticker)
+                .build();
+    }
+
+    /** Starts (or restarts) the window for the client of the current request. */
+    public void recordWrite() {
+        String client = currentClient();
+        if (client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    /** Whether the client of the current request wrote within the window. */
+    public boolean isSticky() {
+        String client = currentClient();
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+
+    private static String currentClient() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Sends the statements of {@code @Transactional(readOnly = true)} work to the
+ * read replicas, taking turns, and everything else to the primary. Reads of a
+ * client that wrote within the {@link PrimaryStickiness} window go to the
+ * primary as well.
+ * <p>
+ * The choice is made when the connection is fetched, so this has to sit behind
+ * a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager asks for a connection before it has published the
+ * read-only flag, and the lazy proxy only fetches the real one at the first
+ * statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final PrimaryStickiness stickiness;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<DataSource> replicas, PrimaryStickiness stickiness) {
+        this.stickiness = stickiness;
+        this.replicaKeys = IntStream.range(0, replicas.size()).mapToObj(ReplicaRoutingDataSource::replicaKey).toList();
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        for (int i = 0; i < replicas.size(); i++) {
+            targets.put(replicaKeys.get(i), replicas.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        // Not a bean of its own, so resolve the targets here rather than wait for the container
+        afterPropertiesSet();
+    }
+
+    static String replicaKey(int index) {
+        return "replica-" + (index + 1);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                stickiness.recordWrite();
+            }
+            return PRIMARY;
+        }
+        if (replicaKeys.isEmpty() || stickiness.isSticky()) {
+            return PRIMARY;
+        }
+        return replicaKeys.get(Math.floorMod(nextReplica.getAndIncrement(), replicaKeys.size()));
+    }
+}
@@ -21,6 +21,7 @@ public class ArticleCreateDTO {
     private String title;
 
     @NotBlank(message = "Author is required")
+    @Size(max = 255, message = "Author must not exceed 255 characters")
     private String author;
 
     @NotBlank(message = "Content is required")
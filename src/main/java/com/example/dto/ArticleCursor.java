@@ -0,0 +1,45 @@
+package com.example.dto;
+
+import com.example.exception.InvalidPageRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last article returned by a keyset page, i.e. the
+ * {@code (publicationDate, id)} pair the next page has to seek past.
+ * Clients only ever see the opaque token produced by {@link #encode()}.
+ */
+@Getter
+@AllArgsConstructor
+public class ArticleCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime publicationDate;
+    private final Long id;
+
+    public String encode() {
+        String raw = publicationDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ArticleCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidPageRequestException("Malformed cursor: " + token);
+            }
+            return new ArticleCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidPageRequestException("Malformed cursor: " + token);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ArticleCursorPageDTO {
+    private List<ArticleSummaryDTO> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+}
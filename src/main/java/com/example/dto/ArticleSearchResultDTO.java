@@ -0,0 +1,20 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ArticleSearchResultDTO {
+    private String query;
+    private long totalHits;
+    private int page;
+    private int size;
+    private List<ArticleSearchHitDTO> hits;
+}
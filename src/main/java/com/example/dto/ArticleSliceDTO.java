@@ -0,0 +1,20 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ArticleSliceDTO {
+    private List<ArticleSummaryDTO> content;
+    private int number;
+    private int size;
+    private boolean hasNext;
+    private Long approximateTotal;
+}
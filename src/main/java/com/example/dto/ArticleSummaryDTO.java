@@ -0,0 +1,25 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ArticleSummaryDTO {
+    private Long id;
+    private String title;
+    private String author;
+    private String excerpt;
+    private LocalDateTime publicationDate;
+
+    // Not part of the response; identifies the article revision for the JSON fragment cache
+    @JsonIgnore
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.example.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BulkImportResultDTO {
+    private int received;
+    private int created;
+    private int rejected;
+    private boolean truncated;
+    private List<BulkItemResultDTO> items;
+}
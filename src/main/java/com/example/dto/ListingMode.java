@@ -0,0 +1,28 @@
+package com.example.dto;
+
+import com.example.exception.InvalidPageRequestException;
+
+import java.util.Locale;
+
+/**
+ * Paging strategies supported by the article listing endpoint.
+ */
+public enum ListingMode {
+
+    /** Classic page number / page size paging (OFFSET/LIMIT). */
+    OFFSET,
+
+    /** Page number paging that skips the total count query. */
+    SLICE,
+
+    /** Keyset paging that seeks past the last row of the previous page. */
+    CURSOR;
+
+    public static ListingMode from(String value) {
+        try {
+            return ListingMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPageRequestException("Unknown listing mode: " + value);
+        }
+    }
+}
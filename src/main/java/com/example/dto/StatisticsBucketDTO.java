@@ -0,0 +1,22 @@
+package com.example.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class StatisticsBucketDTO {
+    private LocalDateTime bucketStart;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String author;
+
+    private Long count;
+}
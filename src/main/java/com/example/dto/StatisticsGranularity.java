@@ -0,0 +1,50 @@
+package com.example.dto;
+
+import com.example.exception.InvalidStatisticsRangeException;
+import com.example.model.RollupGranularity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+/**
+ * Bucket sizes offered by the statistics API. Each one is served from the
+ * coarsest stored rollup level whose buckets never straddle its own.
+ */
+public enum StatisticsGranularity {
+    HOUR(RollupGranularity.HOUR),
+    DAY(RollupGranularity.DAY),
+    // Weeks do not nest inside months, so they are summed from day rows
+    WEEK(RollupGranularity.DAY),
+    MONTH(RollupGranularity.MONTH);
+
+    private final RollupGranularity coarsestLevel;
+
+    StatisticsGranularity(RollupGranularity coarsestLevel) {
+        this.coarsestLevel = coarsestLevel;
+    }
+
+    public RollupGranularity getCoarsestLevel() {
+        return coarsestLevel;
+    }
+
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        if (this == WEEK) {
+            LocalDateTime day = RollupGranularity.DAY.truncate(dateTime);
+            return day.minusDays(day.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+        }
+        return coarsestLevel.truncate(dateTime);
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return this == WEEK ? bucketStart.plusWeeks(1) : coarsestLevel.next(bucketStart);
+    }
+
+    public static StatisticsGranularity from(String value) {
+        try {
+            return StatisticsGranularity.valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidStatisticsRangeException("Unknown granularity: " + value);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.exception;
+
+public class ArticleNotFoundException extends RuntimeException {
+
+    public ArticleNotFoundException(Long id) {
+        super("Article not found: " + id);
+    }
+}
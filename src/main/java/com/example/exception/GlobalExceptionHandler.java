@@ -2,8 +2,10 @@ package com.example.exception;
 
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -47,6 +49,74 @@ public class GlobalExceptionHandler {
         return ResponseEntity.badRequest().body(errors);
     }
 
+    @ExceptionHandler(AuthenticationException.class)
+    @ResponseStatus(HttpStatus.UNAUTHORIZED)
+    public ResponseEntity<Map<String, String>> handleAuthenticationFailure(AuthenticationException ex) {
+        log.error("❌ Authentication failed: {}", ex.getMessage());
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", "Authentication failed");
+        errors.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(errors);
+    }
+
+    @ExceptionHandler(ArticleNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    public ResponseEntity<Map<String, String>> handleArticleNotFound(ArticleNotFoundException ex) {
+        log.error("❌ {}", ex.getMessage());
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", "Article not found");
+        errors.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errors);
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Map<String, String>> handleInvalidPageRequest(InvalidPageRequestException ex) {
+        log.error("❌ Invalid page request: {}", ex.getMessage());
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", "Invalid page request");
+        errors.put("message", ex.getMessage());
+
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    @ExceptionHandler(InvalidStatisticsRangeException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Map<String, String>> handleInvalidStatisticsRange(InvalidStatisticsRangeException ex) {
+        log.error("❌ Invalid statistics range: {}", ex.getMessage());
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", "Invalid statistics range");
+        errors.put("message", ex.getMessage());
+
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    @ExceptionHandler(InvalidExportRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Map<String, String>> handleInvalidExportRequest(InvalidExportRequestException ex) {
+        log.error("❌ Invalid export request: {}", ex.getMessage());
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", "Invalid export request");
+        errors.put("message", ex.getMessage());
+
+        return ResponseEntity.badRequest().body(errors);
+    }
+
+    @ExceptionHandler(WriteQueueFullException.class)
+    @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+    public ResponseEntity<Map<String, String>> handleWriteQueueFull(WriteQueueFullException ex) {
+        log.warn("⏳ {}", ex.getMessage());
+        Map<String, String> errors = new HashMap<>();
+        errors.put("error", "Too many requests");
+        errors.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(errors);
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ResponseEntity<Map<String, String>> handleAllExceptions(Exception ex) {
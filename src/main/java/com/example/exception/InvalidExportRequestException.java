@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Thrown when export parameters (such as the format) cannot be honoured.
+ */
+public class InvalidExportRequestException extends RuntimeException {
+
+    public InvalidExportRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Thrown when listing parameters (mode, cursor, size) cannot be honoured.
+ */
+public class InvalidPageRequestException extends RuntimeException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
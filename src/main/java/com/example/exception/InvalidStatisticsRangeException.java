@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Thrown when a statistics range, granularity or bucket count cannot be honoured.
+ */
+public class InvalidStatisticsRangeException extends RuntimeException {
+
+    public InvalidStatisticsRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.exception;
+
+/**
+ * Thrown after a request that ran more SQL statements than the query budget
+ * allows, when the budget is configured to fail rather than warn.
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
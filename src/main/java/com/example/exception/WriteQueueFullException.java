@@ -0,0 +1,11 @@
+package com.example.exception;
+
+/**
+ * Thrown when the write-behind queue cannot accept another article.
+ */
+public class WriteQueueFullException extends RuntimeException {
+
+    public WriteQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -10,17 +10,28 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "articles")
+@Table(name = "articles", indexes = {
+        // Global and per-author timelines, matching the ORDER BY publication_date DESC, id DESC of the listings
+        @Index(name = "idx_articles_publication_date_id", columnList = "publication_date DESC, id DESC"),
+        @Index(name = "idx_articles_author_publication_date_id", columnList = "author, publication_date DESC, id DESC")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class Article {
 
+    public static final int EXCERPT_LENGTH = 200;
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // A pooled sequence lets Hibernate assign ids without a round trip per insert, so inserts can be JDBC-batched.
+    // ArticleIdAllocator hands out blocks of the same sequence with the same (pooled-lo) semantics.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "articles_seq")
+    @SequenceGenerator(name = "articles_seq", sequenceName = "articles_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @NotBlank(message = "Title is required")
@@ -36,6 +47,9 @@ public class Article {
     @Column(nullable = false, columnDefinition = "TEXT")
     private String content;
 
+    @Column(length = EXCERPT_LENGTH + 3)
+    private String excerpt;
+
     @NotNull(message = "Publication date is required")
     @Column(name = "publication_date", nullable = false)
     private LocalDateTime publicationDate;
@@ -48,11 +62,37 @@ public class Article {
 
     @PrePersist
     protected void onCreate() {
-        createdAt = LocalDateTime.now();
+        createdAt = currentTimestamp();
+        excerpt = excerptOf(content);
     }
 
     @PreUpdate
     protected void onUpdate() {
-        updatedAt = LocalDateTime.now();
+        updatedAt = currentTimestamp();
+        excerpt = excerptOf(content);
+    }
+
+    /**
+     * The current time at the precision of the timestamp columns, so the
+     * article returned by a write is identical to the one read back later.
+     */
+    public static LocalDateTime currentTimestamp() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+
+    /**
+     * Short plain prefix of the content, cut on a word boundary, stored so that
+     * listings never have to read the full TEXT column.
+     */
+    public static String excerptOf(String content) {
+        if (content == null || content.length() <= EXCERPT_LENGTH) {
+            return content;
+        }
+
+        int cut = content.lastIndexOf(' ', EXCERPT_LENGTH);
+        if (cut <= 0) {
+            cut = EXCERPT_LENGTH;
+        }
+        return content.substring(0, cut).stripTrailing() + "...";
     }
 }
\ No newline at end of file
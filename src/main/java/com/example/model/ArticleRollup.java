@@ -0,0 +1,32 @@
+package com.example.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pre-aggregated number of articles published within one bucket, either for a
+ * single author or for all authors together.
+ */
+@Entity
+@Table(name = "article_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArticleRollup {
+
+    /** Author value of the rows that count every author (real authors are never blank). */
+    public static final String ALL_AUTHORS = "";
+
+    @EmbeddedId
+    private ArticleRollupId id;
+
+    @Column(name = "article_count", nullable = false)
+    private Long articleCount;
+}
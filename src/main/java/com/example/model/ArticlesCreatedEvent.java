@@ -0,0 +1,11 @@
+package com.example.model;
+
+import java.util.List;
+
+/**
+ * Published inside the transaction that inserts new articles, by every write
+ * path (single create, bulk import, write-behind batches). Listeners that
+ * derive state from the articles table react after that transaction commits.
+ */
+public record ArticlesCreatedEvent(List<Article> articles) {
+}
@@ -0,0 +1,9 @@
+package com.example.model;
+
+/**
+ * Published when a {@link User} row is updated or deleted, inside the writing
+ * transaction, so anything that caches authentication state for that user can
+ * drop it once the transaction commits.
+ */
+public record UserChangedEvent(Long userId, String username) {
+}
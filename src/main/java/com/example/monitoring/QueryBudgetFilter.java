@@ -0,0 +1,132 @@
+package com.example.monitoring;
+
+import com.example.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.web.util.OnCommittedResponseWrapper;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements each request runs and the time they take.
+ * The numbers go out as {@code X-Query-Count} and {@code Server-Timing}
+ * response headers and as the {@code blog.request.queries} and
+ * {@code blog.request.query.time} metrics per endpoint. A request that runs
+ * more than {@code maxQueries} statements, typically an N+1 loop, is logged,
+ * or fails with {@link QueryBudgetExceededException} when
+ * {@code failOnExceed} is set, as it is in tests.
+ */
+@Slf4j
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final int maxQueries;
+    private final boolean failOnExceed;
+    private final List<String> excludedPaths;
+    private final MeterRegistry meterRegistry;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public QueryBudgetFilter(int maxQueries, boolean failOnExceed, List<String> excludedPaths,
+                             MeterRegistry meterRegistry) {
+        this.maxQueries = maxQueries;
+        this.failOnExceed = failOnExceed;
+        this.excludedPaths = excludedPaths;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+
+        RequestQueryStatistics statistics = RequestQueryStatistics.start();
+        StatisticsHeaderResponse wrappedResponse = new StatisticsHeaderResponse(response, statistics);
+        try {
+            chain.doFilter(request, wrappedResponse);
+        } finally {
+            RequestQueryStatistics.end();
+        }
+
+        // Nothing written yet (e.g. an empty 204), so the headers were not added on commit
+        wrappedResponse.writeHeaders();
+        record(request, statistics);
+        checkBudget(request, statistics);
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+
+        DistributionSummary.builder("blog.request.queries")
+                .description("SQL statements run per request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getQueries());
+        Timer.builder("blog.request.query.time")
+                .description("Time spent in JDBC per request")
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(statistics.getNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private void checkBudget(HttpServletRequest request, RequestQueryStatistics statistics) {
+        if (maxQueries <= 0 || statistics.getQueries() <= maxQueries || isExcluded(request)) {
+            return;
+        }
+
+        String message = String.format(Locale.ROOT, "%s %s ran %d SQL statements (%.1f ms), budget is %d",
+                request.getMethod(), request.getRequestURI(), statistics.getQueries(), statistics.getMillis(),
+                maxQueries);
+        if (failOnExceed) {
+            throw new QueryBudgetExceededException(message);
+        }
+        log.warn("🐢 Query budget exceeded: {}", message);
+    }
+
+    private boolean isExcluded(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return excludedPaths.stream().anyMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    /**
+     * Adds the statistics headers at the last moment they can still be set:
+     * just before the response is committed.
+     */
+    private static class StatisticsHeaderResponse extends OnCommittedResponseWrapper {
+
+        private final RequestQueryStatistics statistics;
+        private boolean headersWritten;
+
+        StatisticsHeaderResponse(HttpServletResponse response, RequestQueryStatistics statistics) {
+            super(response);
+            this.statistics = statistics;
+        }
+
+        @Override
+        protected void onResponseCommitted() {
+            writeHeaders();
+        }
+
+        void writeHeaders() {
+            if (headersWritten || isCommitted()) {
+                return;
+            }
+            headersWritten = true;
+            setHeader(QUERY_COUNT_HEADER, Integer.toString(statistics.getQueries()));
+            setHeader(SERVER_TIMING_HEADER, String.format(Locale.ROOT, "db;dur=%.2f", statistics.getMillis()));
+        }
+    }
+}
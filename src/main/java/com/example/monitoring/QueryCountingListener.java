@@ -0,0 +1,32 @@
+package com.example.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * Counts every statement execution, including JDBC batches as one round trip,
+ * against the request running on the current thread.
+ */
+public class QueryCountingListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = QueryCountingListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (RequestQueryStatistics.current() != null) {
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        RequestQueryStatistics statistics = RequestQueryStatistics.current();
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (statistics != null && start != null) {
+            statistics.record(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.monitoring;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQL statements run and time spent in JDBC by the current request thread.
+ * {@link QueryBudgetFilter} opens a scope per request and
+ * {@link QueryCountingListener} records into it; statements run outside a
+ * request, such as background writes and startup jobs, are not recorded.
+ */
+public final class RequestQueryStatistics {
+
+    private static final ThreadLocal<RequestQueryStatistics> CURRENT = new ThreadLocal<>();
+
+    private int queries;
+    private long nanos;
+
+    private RequestQueryStatistics() {
+    }
+
+    static RequestQueryStatistics start() {
+        RequestQueryStatistics statistics = new RequestQueryStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /** Statistics of the request running on this thread, or null outside a request. */
+    public static RequestQueryStatistics current() {
+        return CURRENT.get();
+    }
+
+    void record(long elapsedNanos) {
+        queries++;
+        nanos += elapsedNanos;
+    }
+
+    public int getQueries() {
+        return queries;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public double getMillis() {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
@@ -1,22 +1,53 @@
 package com.example.repository;
 
+import com.example.dto.ArticleSummaryDTO;
 import com.example.model.Article;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface ArticleRepository extends JpaRepository<Article, Long> {
 
-    Page<Article> findAllByOrderByPublicationDateDesc(Pageable pageable);
+    // Listing queries select a summary projection so the TEXT content column is never read
+    String SUMMARY_SELECT = "SELECT new com.example.dto.ArticleSummaryDTO(" +
+            "a.id, a.title, a.author, a.excerpt, a.publicationDate, a.updatedAt) FROM Article a ";
 
-    @Query("SELECT CAST(a.publicationDate AS DATE) as date, COUNT(a) as count FROM Article a " +
-            "WHERE a.publicationDate >= :startDate AND a.publicationDate <= :endDate " +
-            "GROUP BY CAST(a.publicationDate AS DATE) ORDER BY CAST(a.publicationDate AS DATE) DESC")
-    List<Object[]> countArticlesByPublicationDateBetween(LocalDateTime startDate, LocalDateTime endDate);
-}
\ No newline at end of file
+    @Query(value = SUMMARY_SELECT + "ORDER BY a.publicationDate DESC, a.id DESC",
+            countQuery = "SELECT COUNT(a) FROM Article a")
+    Page<ArticleSummaryDTO> findSummariesByOrderByPublicationDateDesc(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "ORDER BY a.publicationDate DESC, a.id DESC")
+    Slice<ArticleSummaryDTO> findSummarySliceByOrderByPublicationDateDesc(Pageable pageable);
+
+    @Query(SUMMARY_SELECT + "ORDER BY a.publicationDate DESC, a.id DESC")
+    List<ArticleSummaryDTO> findSummariesByOrderByPublicationDateDescIdDesc(Limit limit);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE a.publicationDate < :publicationDate " +
+            "OR (a.publicationDate = :publicationDate AND a.id < :id) " +
+            "ORDER BY a.publicationDate DESC, a.id DESC")
+    List<ArticleSummaryDTO> findSummariesAfter(LocalDateTime publicationDate, Long id, Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.author = :author ORDER BY a.publicationDate DESC, a.id DESC")
+    List<ArticleSummaryDTO> findSummariesByAuthor(String author, Limit limit);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE a.author = :author " +
+            "AND (a.publicationDate < :publicationDate " +
+            "OR (a.publicationDate = :publicationDate AND a.id < :id)) " +
+            "ORDER BY a.publicationDate DESC, a.id DESC")
+    List<ArticleSummaryDTO> findSummariesByAuthorAfter(String author, LocalDateTime publicationDate, Long id,
+                                                       Limit limit);
+
+    @Query(SUMMARY_SELECT + "WHERE a.id IN :ids")
+    List<ArticleSummaryDTO> findSummariesByIdIn(Collection<Long> ids);
+}
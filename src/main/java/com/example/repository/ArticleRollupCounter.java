@@ -0,0 +1,15 @@
+package com.example.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Custom fragment of {@link ArticleRollupRepository} for the rollup counter upsert.
+ */
+public interface ArticleRollupCounter {
+
+    /**
+     * Adds {@code delta} to one bucket, creating the row if it does not exist yet.
+     * Runs in the caller's transaction.
+     */
+    int increment(String granularity, LocalDateTime bucketStart, String author, long delta);
+}
@@ -0,0 +1,44 @@
+package com.example.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Upserts through JDBC rather than a JPA native query. When two transactions
+ * create the same bucket at once, both MERGEs take the insert branch and the
+ * second fails on the primary key once the first commits. That statement is
+ * then simply run again and now updates the committed row. Through JPA the
+ * same error would mark the whole transaction rollback-only and fail the
+ * article insert with it.
+ * <p>
+ * The retry relies on H2 rolling back only the failed statement and keeping
+ * the transaction usable. Databases that abort the whole transaction on an
+ * error (PostgreSQL) need a native upsert such as
+ * {@code INSERT ... ON CONFLICT DO UPDATE} instead of this MERGE.
+ */
+@RequiredArgsConstructor
+public class ArticleRollupCounterImpl implements ArticleRollupCounter {
+
+    static final String INCREMENT_SQL = "MERGE INTO article_rollups t " +
+            "USING (VALUES (CAST(? AS VARCHAR(5)), CAST(? AS TIMESTAMP), " +
+            "CAST(? AS VARCHAR(255)), CAST(? AS BIGINT))) s(granularity, bucket_start, author, delta) " +
+            "ON t.granularity = s.granularity AND t.bucket_start = s.bucket_start AND t.author = s.author " +
+            "WHEN MATCHED THEN UPDATE SET article_count = t.article_count + s.delta " +
+            "WHEN NOT MATCHED THEN INSERT (granularity, bucket_start, author, article_count) " +
+            "VALUES (s.granularity, s.bucket_start, s.author, s.delta)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int increment(String granularity, LocalDateTime bucketStart, String author, long delta) {
+        try {
+            return jdbcTemplate.update(INCREMENT_SQL, granularity, bucketStart, author, delta);
+        } catch (DuplicateKeyException e) {
+            // Lost the race to insert this bucket; the winner has committed, so this run updates its row
+            return jdbcTemplate.update(INCREMENT_SQL, granularity, bucketStart, author, delta);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.repository;
+
+import com.example.model.ArticleRollup;
+import com.example.model.ArticleRollupId;
+import com.example.model.RollupGranularity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ArticleRollupRepository extends JpaRepository<ArticleRollup, ArticleRollupId>, ArticleRollupCounter {
+
+    @Query("SELECT r FROM ArticleRollup r WHERE r.id.granularity = :granularity " +
+            "AND r.id.author = :author AND r.id.bucketStart >= :from AND r.id.bucketStart < :to")
+    List<ArticleRollup> findBuckets(RollupGranularity granularity, String author, LocalDateTime from, LocalDateTime to);
+
+    @Query("SELECT r FROM ArticleRollup r WHERE r.id.granularity = :granularity " +
+            "AND r.id.author <> '' AND r.id.bucketStart >= :from AND r.id.bucketStart < :to")
+    List<ArticleRollup> findAuthorBuckets(RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    @Modifying
+    @Query("DELETE FROM ArticleRollup")
+    int deleteAllRollups();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO article_rollups (granularity, bucket_start, author, article_count) " +
+            "SELECT 'HOUR', DATE_TRUNC('HOUR', publication_date), author, COUNT(*) FROM articles " +
+            "GROUP BY DATE_TRUNC('HOUR', publication_date), author")
+    int insertAuthorHoursFromArticles();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO article_rollups (granularity, bucket_start, author, article_count) " +
+            "SELECT 'HOUR', bucket_start, '', SUM(article_count) FROM article_rollups " +
+            "WHERE granularity = 'HOUR' GROUP BY bucket_start")
+    int insertAllAuthorHoursFromAuthorHours();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO article_rollups (granularity, bucket_start, author, article_count) " +
+            "SELECT 'DAY', DATE_TRUNC('DAY', bucket_start), author, SUM(article_count) FROM article_rollups " +
+            "WHERE granularity = 'HOUR' GROUP BY DATE_TRUNC('DAY', bucket_start), author")
+    int insertDaysFromHours();
+
+    @Modifying
+    @Query(nativeQuery = true, value = "INSERT INTO article_rollups (granularity, bucket_start, author, article_count) " +
+            "SELECT 'MONTH', DATE_TRUNC('MONTH', bucket_start), author, SUM(article_count) FROM article_rollups " +
+            "WHERE granularity = 'DAY' GROUP BY DATE_TRUNC('MONTH', bucket_start), author")
+    int insertMonthsFromDays();
+}
@@ -0,0 +1,69 @@
+package com.example.repository;
+
+import com.example.dto.ArticleSummaryDTO;
+import com.example.model.RollupGranularity;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Non-blocking reads of the {@code articles} and {@code article_rollups}
+ * tables over R2DBC. The statements mirror the JPA listing and rollup queries,
+ * so they use the same indexes.
+ */
+@Repository
+@ConditionalOnProperty(name = "blog.reactive.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ReactiveArticleRepository {
+
+    static final String SUMMARIES_SQL = "SELECT id, title, author, excerpt, publication_date, updated_at " +
+            "FROM articles ORDER BY publication_date DESC, id DESC LIMIT :limit OFFSET :offset";
+    static final String COUNT_SQL = "SELECT COUNT(*) FROM articles";
+    static final String BUCKETS_SQL = "SELECT bucket_start, article_count FROM article_rollups " +
+            "WHERE granularity = :granularity AND author = :author AND bucket_start >= :from AND bucket_start < :to";
+
+    private final DatabaseClient reactiveDatabaseClient;
+
+    public Flux<ArticleSummaryDTO> findSummaries(int limit, long offset) {
+        return reactiveDatabaseClient.sql(SUMMARIES_SQL)
+                .bind("limit", limit)
+                .bind("offset", offset)
+                .map(ReactiveArticleRepository::toSummary)
+                .all();
+    }
+
+    public Mono<Long> count() {
+        return reactiveDatabaseClient.sql(COUNT_SQL)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /** Bucket start and article count of every stored rollup row within {@code [from, to)}. */
+    public Flux<Map.Entry<LocalDateTime, Long>> findBucketCounts(RollupGranularity granularity, String author,
+                                                                 LocalDateTime from, LocalDateTime to) {
+        return reactiveDatabaseClient.sql(BUCKETS_SQL)
+                .bind("granularity", granularity.name())
+                .bind("author", author)
+                .bind("from", from)
+                .bind("to", to)
+                .map(row -> Map.entry(row.get("bucket_start", LocalDateTime.class), row.get("article_count", Long.class)))
+                .all();
+    }
+
+    private static ArticleSummaryDTO toSummary(Readable row) {
+        return new ArticleSummaryDTO(
+                row.get("id", Long.class),
+                row.get("title", String.class),
+                row.get("author", String.class),
+                row.get("excerpt", String.class),
+                row.get("publication_date", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class));
+    }
+}
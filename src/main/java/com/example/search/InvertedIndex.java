@@ -0,0 +1,192 @@
+package com.example.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over article titles and content, ranked with BM25.
+ * <p>
+ * Each indexed article gets a dense doc number in indexing order; postings
+ * refer to doc numbers and map back to article ids through a plain array.
+ * Title terms count {@code titleBoost} times, both in the term frequency and
+ * in the document length, which is a simple form of BM25F field weighting.
+ * Adds take the write lock and searches the read lock, so queries run in
+ * parallel and see each article either fully indexed or not at all.
+ */
+public final class InvertedIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private final int titleBoost;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final BitSet indexedIds = new BitSet();
+
+    private long[] articleIds = new long[1024];
+    private int[] docLengths = new int[1024];
+    private int docCount;
+    private long totalLength;
+
+    public InvertedIndex(int titleBoost) {
+        this.titleBoost = titleBoost;
+    }
+
+    /**
+     * Indexes an article unless it is already in the index.
+     *
+     * @return whether the article was added
+     */
+    public boolean add(long articleId, String title, String content) {
+        // Tokenize outside the lock; only the index update needs exclusive access
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+        for (String term : Tokenizer.tokenize(title)) {
+            frequencies.merge(term, titleBoost, Integer::sum);
+            length += titleBoost;
+        }
+        for (String term : Tokenizer.tokenize(content)) {
+            frequencies.merge(term, 1, Integer::sum);
+            length++;
+        }
+
+        lock.writeLock().lock();
+        try {
+            int idBit = (int) articleId;
+            boolean trackable = idBit == articleId && idBit >= 0;
+            if (trackable && indexedIds.get(idBit)) {
+                return false;
+            }
+
+            int doc = docCount;
+            if (doc == articleIds.length) {
+                articleIds = Arrays.copyOf(articleIds, doc * 2);
+                docLengths = Arrays.copyOf(docLengths, doc * 2);
+            }
+            articleIds[doc] = articleId;
+            docLengths[doc] = length;
+            for (Map.Entry<String, Integer> entry : frequencies.entrySet()) {
+                postings.computeIfAbsent(entry.getKey(), term -> new PostingList()).append(doc, entry.getValue());
+            }
+
+            docCount++;
+            totalLength += length;
+            if (trackable) {
+                indexedIds.set(idBit);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks articles matching any of the query terms, best first.
+     *
+     * @param offset number of top hits to skip
+     * @param limit  maximum number of hits to return
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        Set<String> terms = new LinkedHashSet<>(Tokenizer.tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            if (terms.isEmpty() || docCount == 0) {
+                return new SearchResult(0, List.of());
+            }
+
+            float averageLength = Math.max(1f, (float) totalLength / docCount);
+            float[] scores = new float[docCount];
+            int[] matched = new int[16];
+            int matchCount = 0;
+
+            // Term at a time: add each term's contribution to every document that contains it
+            for (String term : terms) {
+                PostingList postingList = postings.get(term);
+                if (postingList == null) {
+                    continue;
+                }
+                int df = postingList.getDocumentFrequency();
+                float idf = (float) Math.log(1 + (docCount - df + 0.5) / (df + 0.5));
+
+                PostingList.Cursor cursor = postingList.cursor();
+                while (cursor.next()) {
+                    int doc = cursor.doc();
+                    float tf = cursor.frequency();
+                    float norm = K1 * (1 - B + B * docLengths[doc] / averageLength);
+                    if (scores[doc] == 0f) {
+                        if (matchCount == matched.length) {
+                            matched = Arrays.copyOf(matched, matchCount * 2);
+                        }
+                        matched[matchCount++] = doc;
+                    }
+                    scores[doc] += idf * tf * (K1 + 1) / (tf + norm);
+                }
+            }
+
+            return new SearchResult(matchCount, topHits(scores, matched, matchCount, offset, limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Hit> topHits(float[] scores, int[] matched, int matchCount, int offset, int limit) {
+        int wanted = offset + limit;
+        if (wanted <= 0 || offset >= matchCount) {
+            return List.of();
+        }
+
+        // Best first: higher score, then the more recently indexed article
+        Comparator<Integer> ranking = Comparator.<Integer>comparingDouble(doc -> scores[doc])
+                .thenComparingInt(doc -> doc);
+        PriorityQueue<Integer> top = new PriorityQueue<>(Math.min(wanted, matchCount) + 1, ranking);
+        for (int i = 0; i < matchCount; i++) {
+            top.offer(matched[i]);
+            if (top.size() > wanted) {
+                top.poll();
+            }
+        }
+
+        List<Integer> ranked = new ArrayList<>(top);
+        ranked.sort(ranking.reversed());
+        List<Hit> hits = new ArrayList<>(Math.min(limit, ranked.size()));
+        for (int i = offset; i < ranked.size(); i++) {
+            int doc = ranked.get(i);
+            hits.add(new Hit(articleIds[doc], scores[doc]));
+        }
+        return hits;
+    }
+
+    public record Hit(long articleId, float score) {
+    }
+
+    public record SearchResult(long totalHits, List<Hit> hits) {
+    }
+}
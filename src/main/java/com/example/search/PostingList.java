@@ -0,0 +1,92 @@
+package com.example.search;
+
+import java.util.Arrays;
+
+/**
+ * Documents containing one term, as {@code (doc, frequency)} pairs in a byte
+ * array: each doc number is stored as the gap from the previous one, and gaps
+ * and frequencies are variable-length integers (7 bits per byte). Doc numbers
+ * are assigned in indexing order, so appends always arrive in increasing order
+ * and a typical posting costs two or three bytes.
+ */
+final class PostingList {
+
+    private byte[] data = new byte[8];
+    private int length;
+    private int lastDoc = -1;
+    private int documentFrequency;
+
+    void append(int doc, int frequency) {
+        ensureCapacity(10);
+        writeVarInt(doc - lastDoc);
+        writeVarInt(frequency);
+        lastDoc = doc;
+        documentFrequency++;
+    }
+
+    int getDocumentFrequency() {
+        return documentFrequency;
+    }
+
+    int sizeInBytes() {
+        return length;
+    }
+
+    Cursor cursor() {
+        return new Cursor();
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+
+    private void writeVarInt(int value) {
+        while ((value & ~0x7F) != 0) {
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        data[length++] = (byte) value;
+    }
+
+    /**
+     * Forward-only reader over the postings present when it was created.
+     */
+    final class Cursor {
+
+        private final int end = length;
+        private int position;
+        private int doc = -1;
+        private int frequency;
+
+        boolean next() {
+            if (position >= end) {
+                return false;
+            }
+            doc += readVarInt();
+            frequency = readVarInt();
+            return true;
+        }
+
+        int doc() {
+            return doc;
+        }
+
+        int frequency() {
+            return frequency;
+        }
+
+        private int readVarInt() {
+            int value = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                value |= (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.security;
 
-import lombok.RequiredArgsConstructor;
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -13,13 +18,30 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@Slf4j
 public class SecurityConfig {
 
+    private static final int MIN_TOKEN_SECRET_BYTES = 32;
+
     private final UserDetailsServiceImpl userDetailsService;
 
     public SecurityConfig(UserDetailsServiceImpl userDetailsService) {
@@ -27,18 +49,29 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   CachingAuthenticationProvider authenticationProvider) throws Exception {
         return http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/api/articles").permitAll()
-                        .requestMatchers("/api/articles/create").authenticated()
-                        .requestMatchers("/api/statistics").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/articles/{id:\\d+}").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/articles/search").permitAll()
+                        .requestMatchers("/api/articles/create", "/api/articles/bulk").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/auth/token").permitAll()
+                        .requestMatchers("/api/statistics", "/api/statistics/**").hasRole("ADMIN")
+                        .requestMatchers(HttpMethod.GET, "/api/reactive/articles").permitAll()
+                        .requestMatchers("/api/reactive/statistics").hasRole("ADMIN")
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .requestMatchers("/h2-console/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         .anyRequest().authenticated())
-                .userDetailsService(userDetailsService)
+                .authenticationProvider(authenticationProvider)
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .httpBasic(Customizer.withDefaults())
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(jwt -> jwt.jwtAuthenticationConverter(tokenAuthenticationConverter())))
                 .headers(headers -> headers.frameOptions().disable()) // For H2 Console
                 .build();
     }
@@ -48,6 +81,61 @@ public class SecurityConfig {
         return new BCryptPasswordEncoder();
     }
 
+    @Bean
+    public CachingAuthenticationProvider cachingAuthenticationProvider(
+            @Value("${blog.security.auth-cache.maximum-size:10000}") long maximumSize,
+            @Value("${blog.security.auth-cache.ttl:5m}") Duration timeToLive) {
+        return new CachingAuthenticationProvider(userDetailsService, passwordEncoder(), maximumSize, timeToLive);
+    }
+
+    @Bean
+    public MeterBinder authenticationCacheMetrics(CachingAuthenticationProvider cachingAuthenticationProvider) {
+        // Publishes cache.gets{cache=authentication,result=hit|miss}, evictions and size
+        return registry -> CaffeineCacheMetrics.monitor(registry, cachingAuthenticationProvider.getCache(), "authentication");
+    }
+
+    @Bean
+    public SecretKey tokenSigningKey(@Value("${blog.security.token.secret:}") String secret) {
+        byte[] keyBytes;
+        if (secret.isBlank()) {
+            // Fine for a single node; every node must share the secret to accept each other's tokens
+            log.warn("⚠️ blog.security.token.secret is not set, using a random key for this process");
+            keyBytes = new byte[MIN_TOKEN_SECRET_BYTES];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = Base64.getDecoder().decode(secret);
+            if (keyBytes.length < MIN_TOKEN_SECRET_BYTES) {
+                throw new IllegalStateException("blog.security.token.secret must be at least 256 bits");
+            }
+        }
+        return new SecretKeySpec(keyBytes, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(SecretKey tokenSigningKey) {
+        return new NimbusJwtEncoder(new ImmutableSecret<>(tokenSigningKey));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(SecretKey tokenSigningKey) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(tokenSigningKey)
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(TokenService.ISSUER));
+        return decoder;
+    }
+
+    private JwtAuthenticationConverter tokenAuthenticationConverter() {
+        // Roles are stored with their ROLE_ prefix, exactly as on the User entity
+        JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        authoritiesConverter.setAuthoritiesClaimName(TokenService.ROLES_CLAIM);
+        authoritiesConverter.setAuthorityPrefix("");
+
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+        return converter;
+    }
+
     @Bean
     public AuthenticationManager authenticationManager(AuthenticationConfiguration authConfig) throws Exception {
         return authConfig.getAuthenticationManager();
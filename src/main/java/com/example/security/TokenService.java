@@ -0,0 +1,62 @@
+package com.example.security;
+
+import com.example.dto.TokenResponseDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Issues short-lived bearer tokens (HMAC-signed JWTs) for an authenticated user.
+ * The user's roles travel inside the token, so requests carrying it are
+ * authorized from the signature alone, without a user lookup or BCrypt check.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TokenService {
+
+    public static final String ISSUER = "blog-api";
+    public static final String ROLES_CLAIM = "roles";
+
+    private final JwtEncoder jwtEncoder;
+
+    @Value("${blog.security.token.ttl:15m}")
+    private Duration timeToLive;
+
+    public TokenResponseDTO issueToken(Authentication authentication) {
+        Instant now = Instant.now();
+        List<String> roles = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .toList();
+
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(ISSUER)
+                .subject(authentication.getName())
+                .issuedAt(now)
+                .expiresAt(now.plus(timeToLive))
+                .claim(ROLES_CLAIM, roles)
+                .build();
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        log.info("🔑 Issued token for user: {}", authentication.getName());
+
+        return TokenResponseDTO.builder()
+                .accessToken(token)
+                .tokenType("Bearer")
+                .expiresIn(timeToLive.toSeconds())
+                .build();
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.service;
+
+import com.example.model.ArticlesCreatedEvent;
+import com.example.repository.ArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory estimate of the number of articles, so slice listings can report a
+ * total without running {@code COUNT(*)} next to every page. The value is seeded
+ * from the database once on first use and then tracks writes made by this node,
+ * counting them once their transaction has committed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApproximateArticleCount {
+
+    private static final long UNKNOWN = -1L;
+
+    private final ArticleRepository articleRepository;
+    private final AtomicLong count = new AtomicLong(UNKNOWN);
+
+    public long get() {
+        long current = count.get();
+        if (current != UNKNOWN) {
+            return current;
+        }
+
+        long seeded = articleRepository.count();
+        log.info("🔢 Seeded approximate article count with {}", seeded);
+        return count.compareAndSet(UNKNOWN, seeded) ? seeded : count.get();
+    }
+
+    @TransactionalEventListener
+    public void onArticlesCreated(ArticlesCreatedEvent event) {
+        increment(event.articles().size());
+    }
+
+    public void increment(long delta) {
+        // Until seeded there is nothing to adjust; the seed query will see these rows
+        count.getAndUpdate(current -> current == UNKNOWN ? UNKNOWN : current + delta);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.service;
+
+import com.example.dto.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+public interface ArticleExportService {
+
+    /**
+     * Writes every article, oldest id first, to {@code output} in the given
+     * format. Rows are streamed from the database and written one at a time,
+     * so memory use does not depend on the size of the table.
+     *
+     * @return the number of articles written
+     */
+    long exportArticles(ExportFormat format, OutputStream output) throws IOException;
+}
@@ -0,0 +1,38 @@
+package com.example.service;
+
+import com.example.model.Article;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out article ids before the article is written, drawing blocks of
+ * {@link Article#ID_ALLOCATION_SIZE} from {@code articles_seq}. Like Hibernate's
+ * pooled-lo optimizer, a sequence value {@code v} reserves {@code [v, v + size)},
+ * so ids from here never collide with ids Hibernate assigns on insert.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArticleIdAllocator {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long next;
+    private long limit;
+
+    public long nextId() {
+        lock.lock();
+        try {
+            if (next == limit) {
+                next = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR articles_seq", Long.class);
+                limit = next + Article.ID_ALLOCATION_SIZE;
+            }
+            return next++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.service;
+
+import com.example.dto.BulkImportResultDTO;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface ArticleImportService {
+
+    /**
+     * Imports articles from a JSON array or a newline-delimited JSON stream,
+     * reading the input incrementally and committing in chunks.
+     */
+    BulkImportResultDTO importArticles(InputStream input) throws IOException;
+}
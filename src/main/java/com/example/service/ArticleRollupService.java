@@ -0,0 +1,214 @@
+package com.example.service;
+
+import com.example.dto.StatisticsBucketDTO;
+import com.example.dto.StatisticsGranularity;
+import com.example.exception.InvalidStatisticsRangeException;
+import com.example.model.Article;
+import com.example.model.ArticleRollup;
+import com.example.model.ArticleRollupId;
+import com.example.model.RollupGranularity;
+import com.example.repository.ArticleRollupRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Maintains and queries the {@code article_rollups} table: article counts per
+ * hour, day and month, both per author and for all authors together.
+ * <p>
+ * Counters are bumped in the same transaction that inserts the article, so a
+ * statistics query reads a few pre-aggregated rows instead of scanning the
+ * articles table. The rebuild job recomputes the whole hierarchy from scratch
+ * (hours from articles, days from hours, months from days) for data written
+ * before the rollup existed or after a manual repair.
+ * <p>
+ * The rebuild deletes and re-inserts every row, so it must not overlap with
+ * writers bumping the same rows. Writers share a lock that they hold until
+ * their transaction completes; the rebuild takes it exclusively, so it starts
+ * once the writers in flight have committed and holds new ones back until it
+ * has committed itself. The lock is per process: with several instances
+ * writing to one database, run the rebuild while only one of them takes writes.
+ */
+@Service
+@Timed("blog.service")
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleRollupService {
+
+    static final int MAX_BUCKETS = 10_000;
+    static final int MAX_RESULT_ROWS = 100_000;
+
+    private final ArticleRollupRepository articleRollupRepository;
+    private final ReadWriteLock rebuildLock = new ReentrantReadWriteLock();
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordArticle(LocalDateTime publicationDate, String author) {
+        holdUntilCompletion(rebuildLock.readLock());
+        for (RollupGranularity level : RollupGranularity.values()) {
+            LocalDateTime bucketStart = level.truncate(publicationDate);
+            articleRollupRepository.increment(level.name(), bucketStart, ArticleRollup.ALL_AUTHORS, 1);
+            articleRollupRepository.increment(level.name(), bucketStart, author, 1);
+        }
+    }
+
+    /**
+     * Bulk variant of {@link #recordArticle}: sums the articles into their
+     * buckets first, so a chunk of articles costs one upsert per distinct
+     * bucket rather than six per article.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordArticles(Collection<Article> articles) {
+        holdUntilCompletion(rebuildLock.readLock());
+        Map<ArticleRollupId, Long> deltas = new HashMap<>();
+        for (Article article : articles) {
+            for (RollupGranularity level : RollupGranularity.values()) {
+                LocalDateTime bucketStart = level.truncate(article.getPublicationDate());
+                deltas.merge(new ArticleRollupId(level, bucketStart, ArticleRollup.ALL_AUTHORS), 1L, Long::sum);
+                deltas.merge(new ArticleRollupId(level, bucketStart, article.getAuthor()), 1L, Long::sum);
+            }
+        }
+
+        deltas.forEach((id, delta) -> articleRollupRepository.increment(
+                id.getGranularity().name(), id.getBucketStart(), id.getAuthor(), delta));
+    }
+
+    /**
+     * Counts articles published in {@code [from, to)}, rounded out to whole hours,
+     * in buckets of the given granularity. Every bucket is present, empty ones
+     * with a zero count; when grouping by author there is one series per author
+     * that published within the range.
+     */
+    @Transactional(readOnly = true)
+    public List<StatisticsBucketDTO> getStatistics(LocalDateTime from, LocalDateTime to,
+                                                   StatisticsGranularity granularity, boolean byAuthor) {
+        LocalDateTime start = RollupGranularity.HOUR.truncate(from);
+        LocalDateTime end = RollupGranularity.HOUR.truncate(to);
+        if (end.isBefore(to)) {
+            end = end.plusHours(1);
+        }
+        if (!start.isBefore(end)) {
+            throw new InvalidStatisticsRangeException("'from' must be before 'to'");
+        }
+
+        List<LocalDateTime> buckets = new ArrayList<>();
+        for (LocalDateTime bucket = granularity.truncate(start); bucket.isBefore(end); bucket = granularity.next(bucket)) {
+            if (buckets.size() == MAX_BUCKETS) {
+                throw new InvalidStatisticsRangeException(
+                        "Range spans more than " + MAX_BUCKETS + " " + granularity.name().toLowerCase() + " buckets");
+            }
+            buckets.add(bucket);
+        }
+
+        // Sum the stored rows into their output bucket, one series per author
+        Map<String, Map<LocalDateTime, Long>> countsByAuthor = new TreeMap<>();
+        if (!byAuthor) {
+            countsByAuthor.put(ArticleRollup.ALL_AUTHORS, new HashMap<>());
+        }
+        for (RollupSegment segment : plan(start, end, granularity.getCoarsestLevel())) {
+            List<ArticleRollup> rows = byAuthor
+                    ? articleRollupRepository.findAuthorBuckets(segment.level(), segment.from(), segment.to())
+                    : articleRollupRepository.findBuckets(
+                            segment.level(), ArticleRollup.ALL_AUTHORS, segment.from(), segment.to());
+            for (ArticleRollup row : rows) {
+                countsByAuthor.computeIfAbsent(row.getId().getAuthor(), author -> new HashMap<>())
+                        .merge(granularity.truncate(row.getId().getBucketStart()), row.getArticleCount(), Long::sum);
+            }
+        }
+
+        if ((long) countsByAuthor.size() * buckets.size() > MAX_RESULT_ROWS) {
+            throw new InvalidStatisticsRangeException("Range and grouping produce more than " + MAX_RESULT_ROWS + " rows");
+        }
+
+        // Zero-fill in a single pass over the buckets of each series
+        List<StatisticsBucketDTO> statistics = new ArrayList<>(countsByAuthor.size() * buckets.size());
+        countsByAuthor.forEach((author, counts) -> {
+            for (LocalDateTime bucket : buckets) {
+                statistics.add(new StatisticsBucketDTO(bucket, byAuthor ? author : null, counts.getOrDefault(bucket, 0L)));
+            }
+        });
+        return statistics;
+    }
+
+    @Transactional
+    @Scheduled(cron = "${blog.statistics.rebuild-cron:-}")
+    public void rebuild() {
+        holdUntilCompletion(rebuildLock.writeLock());
+        log.info("🔧 Rebuilding article rollups");
+        articleRollupRepository.deleteAllRollups();
+        articleRollupRepository.insertAuthorHoursFromArticles();
+        articleRollupRepository.insertAllAuthorHoursFromAuthorHours();
+        articleRollupRepository.insertDaysFromHours();
+        int months = articleRollupRepository.insertMonthsFromDays();
+        log.info("✅ Article rollups rebuilt, {} month rows", months);
+    }
+
+    // Released when the current transaction commits or rolls back, on the same thread
+    private static void holdUntilCompletion(Lock lock) {
+        lock.lock();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.unlock();
+            }
+        });
+    }
+
+    /**
+     * Splits an hour-aligned {@code [start, end)} into runs of stored buckets,
+     * always using the coarsest level (up to {@code coarsest}) that fits entirely:
+     * hours up to the first day boundary, days up to the first month boundary,
+     * whole months in the middle and back down again at the tail. A one-year
+     * range at month granularity therefore reads about 12 month rows.
+     */
+    static List<RollupSegment> plan(LocalDateTime start, LocalDateTime end, RollupGranularity coarsest) {
+        List<RollupSegment> segments = new ArrayList<>();
+        LocalDateTime cursor = start;
+
+        while (cursor.isBefore(end)) {
+            RollupGranularity level = largestAlignedLevel(cursor, end, coarsest);
+            LocalDateTime next = level.next(cursor);
+
+            int last = segments.size() - 1;
+            if (last >= 0 && segments.get(last).level() == level && segments.get(last).to().equals(cursor)) {
+                segments.set(last, new RollupSegment(level, segments.get(last).from(), next));
+            } else {
+                segments.add(new RollupSegment(level, cursor, next));
+            }
+            cursor = next;
+        }
+
+        return segments;
+    }
+
+    private static RollupGranularity largestAlignedLevel(
+            LocalDateTime cursor, LocalDateTime end, RollupGranularity coarsest) {
+
+        for (int i = coarsest.ordinal(); i > 0; i--) {
+            RollupGranularity level = RollupGranularity.values()[i];
+            if (level.truncate(cursor).equals(cursor) && !level.next(cursor).isAfter(end)) {
+                return level;
+            }
+        }
+        return RollupGranularity.HOUR;
+    }
+
+    record RollupSegment(RollupGranularity level, LocalDateTime from, LocalDateTime to) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.service;
+
+import com.example.dto.ArticleSearchHitDTO;
+import com.example.dto.ArticleSearchResultDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.exception.InvalidPageRequestException;
+import com.example.model.Article;
+import com.example.model.ArticlesCreatedEvent;
+import com.example.repository.ArticleRepository;
+import com.example.search.InvertedIndex;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over article titles and content, served from an
+ * {@link InvertedIndex} held in memory.
+ * <p>
+ * The index is built from the database once the application is ready and then
+ * kept current from {@link ArticlesCreatedEvent}s after each commit. Articles
+ * committed while a rebuild is reading the table are replayed into the new
+ * index before it replaces the old one, so none are missed. Search only ranks
+ * ids in memory; the summaries of the returned page are loaded in one query.
+ */
+@Service
+@Timed("blog.service")
+@Slf4j
+public class ArticleSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+    static final int MAX_OFFSET = 10_000;
+
+    private static final String INDEX_SQL = "SELECT id, title, content FROM articles ORDER BY id";
+
+    private final ArticleRepository articleRepository;
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int titleBoost;
+    private final boolean rebuildOnStartup;
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    private volatile InvertedIndex index;
+    private List<Article> pending;
+
+    public ArticleSearchService(ArticleRepository articleRepository,
+                                JdbcTemplate jdbcTemplate,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${blog.search.title-boost:3}") int titleBoost,
+                                @Value("${blog.search.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                                @Value("${blog.search.fetch-size:500}") int fetchSize) {
+        this.articleRepository = articleRepository;
+        this.cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.titleBoost = titleBoost;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.index = new InvertedIndex(titleBoost);
+    }
+
+    public ArticleSearchResultDTO search(String query, int page, int size) {
+        log.info("🔍 Searching articles for '{}', page {} with size {}", query, page, size);
+
+        if (page < 0) {
+            throw new InvalidPageRequestException("Page number must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        // Checked as a long so that a huge page number cannot wrap around to a small offset
+        if ((long) page * size > MAX_OFFSET) {
+            throw new InvalidPageRequestException("Search results are limited to the first " + MAX_OFFSET + " hits");
+        }
+
+        InvertedIndex.SearchResult result = index.search(query, page * size, size);
+        List<Long> ids = result.hits().stream().map(InvertedIndex.Hit::articleId).toList();
+        Map<Long, ArticleSummaryDTO> summaries = ids.isEmpty() ? Map.of()
+                : articleRepository.findSummariesByIdIn(ids).stream()
+                        .collect(Collectors.toMap(ArticleSummaryDTO::getId, Function.identity()));
+
+        List<ArticleSearchHitDTO> hits = new ArrayList<>(ids.size());
+        for (InvertedIndex.Hit hit : result.hits()) {
+            ArticleSummaryDTO summary = summaries.get(hit.articleId());
+            if (summary != null) {
+                hits.add(new ArticleSearchHitDTO(hit.score(), summary));
+            }
+        }
+
+        return ArticleSearchResultDTO.builder()
+                .query(query)
+                .totalHits(result.totalHits())
+                .page(page)
+                .size(size)
+                .hits(hits)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildWhenReady() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    public void rebuild() {
+        log.info("🔧 Rebuilding article search index");
+        rebuildLock.lock();
+        try {
+            pending = new ArrayList<>();
+        } finally {
+            rebuildLock.unlock();
+        }
+
+        InvertedIndex rebuilt = new InvertedIndex(titleBoost);
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> cursorTemplate.query(INDEX_SQL, resultSet -> {
+                rebuilt.add(resultSet.getLong("id"), resultSet.getString("title"), resultSet.getString("content"));
+            }));
+        } catch (RuntimeException ex) {
+            // Keep serving the old index
+            rebuildLock.lock();
+            try {
+                pending = null;
+            } finally {
+                rebuildLock.unlock();
+            }
+            throw ex;
+        }
+
+        rebuildLock.lock();
+        try {
+            // Articles committed during the scan; ones the scan already saw are skipped
+            pending.forEach(article -> rebuilt.add(article.getId(), article.getTitle(), article.getContent()));
+            pending = null;
+            index = rebuilt;
+        } finally {
+            rebuildLock.unlock();
+        }
+        log.info("✅ Article search index rebuilt with {} articles and {} terms", rebuilt.size(), rebuilt.termCount());
+    }
+
+    @TransactionalEventListener
+    public void onArticlesCreated(ArticlesCreatedEvent event) {
+        rebuildLock.lock();
+        try {
+            InvertedIndex current = index;
+            event.articles().forEach(article -> current.add(article.getId(), article.getTitle(), article.getContent()));
+            if (pending != null) {
+                pending.addAll(event.articles());
+            }
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public int getIndexedArticleCount() {
+        return index.size();
+    }
+}
@@ -1,18 +1,37 @@
 package com.example.service;
 
 import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleCursorPageDTO;
 import com.example.dto.ArticleResponseDTO;
+import com.example.dto.ArticleSliceDTO;
 import com.example.dto.ArticleStatisticsDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.dto.StatisticsBucketDTO;
+import com.example.dto.StatisticsGranularity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ArticleService {
 
     ArticleResponseDTO createArticle(ArticleCreateDTO articleCreateDTO);
 
-    Page<ArticleResponseDTO> getAllArticles(Pageable pageable);
+    ArticleResponseDTO getArticle(Long id);
+
+    Page<ArticleSummaryDTO> getAllArticles(Pageable pageable);
+
+    ArticleSliceDTO getArticleSlice(Pageable pageable);
+
+    /**
+     * Keyset page of summaries, newest first, optionally limited to one author.
+     * The cursor is the {@code nextCursor} of the previous page, or null for the first.
+     */
+    ArticleCursorPageDTO getArticlesByCursor(String author, String cursor, int size);
 
     List<ArticleStatisticsDTO> getArticleStatisticsForLast7Days();
+
+    List<StatisticsBucketDTO> getArticleStatistics(LocalDateTime from, LocalDateTime to,
+                                                   StatisticsGranularity granularity, boolean byAuthor);
 }
\ No newline at end of file
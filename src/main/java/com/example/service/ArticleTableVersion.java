@@ -0,0 +1,92 @@
+package com.example.service;
+
+import com.example.model.ArticlesCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Version of the articles table as seen by this node, bumped after every
+ * committed insert. Cached listing pages are keyed by it, so a page computed
+ * from a snapshot taken before a commit is never served after that commit,
+ * even if it lands in the cache late.
+ * <p>
+ * The same version backs the HTTP validators: {@link #etag} combines it with an
+ * id chosen at startup (the counter restarts at zero with the process), and
+ * {@link #lastModified} is the time of the last bump.
+ * <p>
+ * With read replicas a page read right after a bump may come from a replica
+ * that has not applied the insert yet. Until the configured replica lag has
+ * passed the version is not {@link #isSettled settled}: pages are not cached,
+ * and responses carry no validators and {@code Cache-Control: no-store}.
+ * <p>
+ * The version is per process: it only moves when this node commits. Several
+ * instances sharing one database never serve each other's ETags (the boot id
+ * differs), but on its own a node would keep answering 304 and serving cached
+ * pages after another node's writes. Such deployments set
+ * {@code blog.articles.version-poll-interval}, and {@link ArticleTableVersionPoller}
+ * then bumps the version when the table changed elsewhere, within one interval.
+ */
+@Component
+@Slf4j
+public class ArticleTableVersion {
+
+    public static final String ARTICLE_PAGES_CACHE = "articlePages";
+
+    private final String bootId = Long.toString(ThreadLocalRandom.current().nextLong() >>> 1, 36);
+    private final AtomicLong version = new AtomicLong();
+    private volatile long lastModified = System.currentTimeMillis();
+    private volatile long replicaLagMillis;
+
+    public long current() {
+        return version.get();
+    }
+
+    public long lastModified() {
+        return lastModified;
+    }
+
+    public void setReplicaLag(Duration replicaLag) {
+        this.replicaLagMillis = replicaLag.toMillis();
+    }
+
+    /** Whether every replica has caught up with the current version. */
+    public boolean isSettled() {
+        return System.currentTimeMillis() - lastModified >= replicaLagMillis;
+    }
+
+    /**
+     * Strong ETag for a response derived only from the articles table and the
+     * given qualifiers (anything else the response depends on, such as the date).
+     */
+    public String etag(Object... qualifiers) {
+        StringBuilder etag = new StringBuilder("\"").append(bootId).append('-').append(version.get());
+        for (Object qualifier : qualifiers) {
+            etag.append('-').append(qualifier);
+        }
+        return etag.append('"').toString();
+    }
+
+    @TransactionalEventListener
+    @CacheEvict(cacheNames = ARTICLE_PAGES_CACHE, allEntries = true)
+    public void onArticlesCreated(ArticlesCreatedEvent event) {
+        log.debug("🔄 Articles table version {} after {} new articles", bump(), event.articles().size());
+    }
+
+    /** The table was changed by a commit this node did not see, e.g. on another instance. */
+    @CacheEvict(cacheNames = ARTICLE_PAGES_CACHE, allEntries = true)
+    public void onExternalChange() {
+        log.debug("🔄 Articles table version {} after a change seen in the database", bump());
+    }
+
+    private long bump() {
+        long current = version.incrementAndGet();
+        lastModified = System.currentTimeMillis();
+        return current;
+    }
+}
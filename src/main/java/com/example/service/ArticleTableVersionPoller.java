@@ -0,0 +1,53 @@
+package com.example.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Lets {@link ArticleTableVersion} see articles committed by other instances
+ * sharing the database. Articles are only ever inserted, so the row count
+ * changes with every commit; when it moved since the last poll, the version
+ * is bumped and the page cache cleared. This node's own commits are seen here
+ * too and cause one extra bump, which only costs a cache refill.
+ * <p>
+ * Only active when {@code blog.articles.version-poll-interval} is set.
+ */
+@Component
+@ConditionalOnProperty(name = "blog.articles.version-poll-interval")
+public class ArticleTableVersionPoller implements SchedulingConfigurer {
+
+    static final String COUNT_SQL = "SELECT COUNT(*) FROM articles";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ArticleTableVersion articleTableVersion;
+    private final Duration interval;
+
+    private long lastCount = -1;
+
+    public ArticleTableVersionPoller(JdbcTemplate jdbcTemplate, ArticleTableVersion articleTableVersion,
+                                     @Value("${blog.articles.version-poll-interval}") Duration interval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.articleTableVersion = articleTableVersion;
+        this.interval = interval;
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        // Registered here rather than with @Scheduled, which does not take durations such as "5s"
+        registrar.addFixedDelayTask(this::poll, interval);
+    }
+
+    void poll() {
+        long count = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+        if (lastCount >= 0 && count != lastCount) {
+            articleTableVersion.onExternalChange();
+        }
+        lastCount = count;
+    }
+}
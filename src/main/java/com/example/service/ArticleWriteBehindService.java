@@ -0,0 +1,221 @@
+package com.example.service;
+
+import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleResponseDTO;
+import com.example.exception.WriteQueueFullException;
+import com.example.model.Article;
+import com.example.model.ArticlesCreatedEvent;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in write-behind path for article creation. An accepted article gets its
+ * id immediately and is queued in memory; a single background writer drains
+ * the queue and inserts articles in JDBC batches, one transaction per batch,
+ * so the request thread never waits for a commit.
+ * <p>
+ * The queue is bounded: when it is full, {@link #submit} fails with
+ * {@link WriteQueueFullException} (429) instead of letting memory grow. On
+ * shutdown the writer stops after the web server and drains what is left.
+ * Queued articles are not durable; if the process dies they are lost. If a
+ * batch fails, its articles are retried one at a time, and an article that
+ * still cannot be written is logged in full and dropped.
+ */
+@Service
+@Slf4j
+public class ArticleWriteBehindService implements SmartLifecycle {
+
+    private static final String INSERT_SQL = "INSERT INTO articles "
+            + "(id, title, author, content, excerpt, publication_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final ArticleIdAllocator articleIdAllocator;
+    private final ArticleRollupService articleRollupService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final int batchSize;
+    private final BlockingQueue<Article> queue;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public ArticleWriteBehindService(ArticleIdAllocator articleIdAllocator,
+                                     ArticleRollupService articleRollupService,
+                                     JdbcTemplate jdbcTemplate,
+                                     TransactionTemplate transactionTemplate,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${blog.articles.write-behind.enabled:false}") boolean enabled,
+                                     @Value("${blog.articles.write-behind.queue-capacity:10000}") int queueCapacity,
+                                     @Value("${blog.articles.write-behind.batch-size:500}") int batchSize) {
+        this.articleIdAllocator = articleIdAllocator;
+        this.articleRollupService = articleRollupService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Timed("blog.service")
+    public ArticleResponseDTO submit(ArticleCreateDTO articleCreateDTO) {
+        if (!running) {
+            throw new WriteQueueFullException("Article writer is not accepting articles");
+        }
+
+        Article article = Article.builder()
+                .id(articleIdAllocator.nextId())
+                .title(articleCreateDTO.getTitle())
+                .author(articleCreateDTO.getAuthor())
+                .content(articleCreateDTO.getContent())
+                .excerpt(Article.excerptOf(articleCreateDTO.getContent()))
+                .publicationDate(articleCreateDTO.getPublicationDate())
+                .createdAt(Article.currentTimestamp())
+                .build();
+
+        if (!queue.offer(article)) {
+            throw new WriteQueueFullException("Article write queue is full, retry later");
+        }
+        log.debug("📥 Queued article {} for writing", article.getId());
+
+        return ArticleResponseDTO.builder()
+                .id(article.getId())
+                .title(article.getTitle())
+                .author(article.getAuthor())
+                .content(article.getContent())
+                .publicationDate(article.getPublicationDate())
+                .createdAt(article.getCreatedAt())
+                .build();
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drainContinuously, "article-writer");
+        writer.start();
+        log.info("🚚 Write-behind article writer started, batch size {}", batchSize);
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (writer != null) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        // Catch anything offered while the writer was finishing
+        flush();
+        log.info("🛑 Write-behind article writer stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public boolean isAutoStartup() {
+        return enabled;
+    }
+
+    @Override
+    public int getPhase() {
+        // Stop after the web server has stopped taking requests, before the DataSource goes away
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * Writes everything currently queued on the calling thread.
+     */
+    void flush() {
+        List<Article> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void drainContinuously() {
+        List<Article> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Article first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Article> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream().map(ArticleWriteBehindService::row).toList());
+                recordWritten(batch);
+            });
+            log.debug("💾 Wrote {} queued articles", batch.size());
+        } catch (RuntimeException ex) {
+            // One bad row fails the whole batch; write the rest one by one so only that article is lost
+            log.warn("⚠️ Failed to write {} queued articles as a batch, retrying one at a time: {}",
+                    batch.size(), ex.getMessage());
+            batch.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(Article article) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(INSERT_SQL, row(article));
+                recordWritten(List.of(article));
+            });
+        } catch (RuntimeException ex) {
+            // Already acknowledged with 202, so log everything needed to submit it again
+            log.error("❌ Dropped queued article {} (title \"{}\", author \"{}\", published {}): {}",
+                    article.getId(), article.getTitle(), article.getAuthor(), article.getPublicationDate(),
+                    ex.getMessage(), ex);
+        }
+    }
+
+    private void recordWritten(List<Article> articles) {
+        articleRollupService.recordArticles(articles);
+        eventPublisher.publishEvent(new ArticlesCreatedEvent(List.copyOf(articles)));
+    }
+
+    private static Object[] row(Article article) {
+        return new Object[] {
+                article.getId(), article.getTitle(), article.getAuthor(), article.getContent(),
+                article.getExcerpt(), article.getPublicationDate(), article.getCreatedAt() };
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.service;
+
+import com.example.dto.ArticleStatisticsDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.model.ArticleRollup;
+import com.example.model.RollupGranularity;
+import com.example.repository.ReactiveArticleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Reactive counterparts of the {@link ArticleService} listing and 7-day
+ * statistics, read through {@link ReactiveArticleRepository}. They return
+ * the same DTOs, but bypass the page cache. Queries are subscribed on the
+ * {@code reactiveScheduler}, so the blocking H2 driver never runs on a
+ * request thread.
+ */
+@Service
+@ConditionalOnProperty(name = "blog.reactive.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveArticleService {
+
+    static final int STATISTICS_DAYS = 7;
+
+    private final ReactiveArticleRepository reactiveArticleRepository;
+    private final Scheduler reactiveScheduler;
+
+    public Mono<Page<ArticleSummaryDTO>> getAllArticles(Pageable pageable) {
+        log.info("📋 Fetching articles page {} with size {} (reactive)",
+                pageable.getPageNumber(), pageable.getPageSize());
+
+        return Mono.zip(streamArticles(pageable).collectList(), reactiveArticleRepository.count().subscribeOn(reactiveScheduler))
+                .map(pageAndTotal -> new PageImpl<>(pageAndTotal.getT1(), pageable, pageAndTotal.getT2()));
+    }
+
+    /** The rows of one page as they arrive, without the total count. */
+    public Flux<ArticleSummaryDTO> streamArticles(Pageable pageable) {
+        return reactiveArticleRepository.findSummaries(pageable.getPageSize(), pageable.getOffset())
+                .subscribeOn(reactiveScheduler);
+    }
+
+    public Flux<ArticleStatisticsDTO> getArticleStatisticsForLast7Days() {
+        log.info("📊 Generating article statistics for the last 7 days (reactive)");
+
+        LocalDate today = LocalDate.now();
+        LocalDate firstDay = today.minusDays(STATISTICS_DAYS - 1);
+
+        // Same DAY rollup rows as the blocking version, zero-filled once they are all in
+        return reactiveArticleRepository.findBucketCounts(RollupGranularity.DAY, ArticleRollup.ALL_AUTHORS,
+                        firstDay.atStartOfDay(), today.plusDays(1).atStartOfDay())
+                .collectMap(bucket -> bucket.getKey().toLocalDate(), Map.Entry::getValue)
+                .flatMapMany(counts -> Flux.range(0, STATISTICS_DAYS)
+                        .map(firstDay::plusDays)
+                        .map(day -> new ArticleStatisticsDTO(day, counts.getOrDefault(day, 0L))))
+                .subscribeOn(reactiveScheduler);
+    }
+}
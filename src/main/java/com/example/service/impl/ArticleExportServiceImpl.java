@@ -0,0 +1,165 @@
+package com.example.service.impl;
+
+import com.example.dto.ExportFormat;
+import com.example.service.ArticleExportService;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@Timed("blog.service")
+@Slf4j
+public class ArticleExportServiceImpl implements ArticleExportService {
+
+    private static final String EXPORT_SQL = "SELECT id, title, author, content, publication_date, created_at, updated_at "
+            + "FROM articles ORDER BY id";
+
+    private static final String[] COLUMNS = {
+            "id", "title", "author", "content", "publicationDate", "createdAt", "updatedAt" };
+
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final JsonFactory jsonFactory;
+
+    public ArticleExportServiceImpl(JdbcTemplate jdbcTemplate,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper,
+                                    @Value("${blog.articles.export.fetch-size:500}") int fetchSize) {
+        // Rows are pulled from the driver fetchSize at a time and never collected into a list
+        this.cursorTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.cursorTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Override
+    public long exportArticles(ExportFormat format, OutputStream output) throws IOException {
+        log.info("📤 Exporting articles as {}", format);
+
+        RowWriter writer = format == ExportFormat.CSV ? new CsvRowWriter(output) : new NdjsonRowWriter(output);
+        AtomicLong rows = new AtomicLong();
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> cursorTemplate.query(EXPORT_SQL, resultSet -> {
+                try {
+                    writer.write(resultSet);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                rows.incrementAndGet();
+            }));
+        } catch (UncheckedIOException ex) {
+            // Usually the client went away mid-download
+            throw ex.getCause();
+        }
+        writer.finish();
+
+        log.info("✅ Exported {} articles as {}", rows.get(), format);
+        return rows.get();
+    }
+
+    private static String timestamp(ResultSet resultSet, String column) throws SQLException {
+        LocalDateTime value = resultSet.getObject(column, LocalDateTime.class);
+        return value == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(value);
+    }
+
+    private interface RowWriter {
+
+        void write(ResultSet resultSet) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+
+        NdjsonRowWriter(OutputStream output) throws IOException {
+            this.generator = jsonFactory.createGenerator(output);
+            this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Lines are separated explicitly below, not by the default space between root values
+            this.generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeNumberField(COLUMNS[0], resultSet.getLong("id"));
+            generator.writeStringField(COLUMNS[1], resultSet.getString("title"));
+            generator.writeStringField(COLUMNS[2], resultSet.getString("author"));
+            generator.writeStringField(COLUMNS[3], resultSet.getString("content"));
+            generator.writeStringField(COLUMNS[4], timestamp(resultSet, "publication_date"));
+            generator.writeStringField(COLUMNS[5], timestamp(resultSet, "created_at"));
+            generator.writeStringField(COLUMNS[6], timestamp(resultSet, "updated_at"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+    }
+
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream output) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), 64 * 1024);
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(ResultSet resultSet) throws SQLException, IOException {
+            writer.write(Long.toString(resultSet.getLong("id")));
+            field(resultSet.getString("title"));
+            field(resultSet.getString("author"));
+            field(resultSet.getString("content"));
+            field(timestamp(resultSet, "publication_date"));
+            field(timestamp(resultSet, "created_at"));
+            field(timestamp(resultSet, "updated_at"));
+            writer.write("\r\n");
+        }
+
+        private void field(String value) throws IOException {
+            writer.write(',');
+            if (value == null) {
+                return;
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                writer.write(value);
+                return;
+            }
+            writer.write('"');
+            writer.write(value.replace("\"", "\"\""));
+            writer.write('"');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+    }
+}
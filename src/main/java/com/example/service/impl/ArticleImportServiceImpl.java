@@ -0,0 +1,165 @@
+package com.example.service.impl;
+
+import com.example.dto.ArticleCreateDTO;
+import com.example.dto.BulkImportResultDTO;
+import com.example.dto.BulkItemResultDTO;
+import com.example.model.Article;
+import com.example.model.ArticlesCreatedEvent;
+import com.example.repository.ArticleRepository;
+import com.example.service.ArticleImportService;
+import com.example.service.ArticleRollupService;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Timed("blog.service")
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleImportServiceImpl implements ArticleImportService {
+
+    private final ArticleRepository articleRepository;
+    private final ArticleRollupService articleRollupService;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${blog.articles.bulk.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public BulkImportResultDTO importArticles(InputStream input) throws IOException {
+        log.info("📦 Starting bulk article import with chunk size {}", chunkSize);
+
+        List<BulkItemResultDTO> results = new ArrayList<>();
+        List<Article> chunk = new ArrayList<>(chunkSize);
+        List<BulkItemResultDTO> chunkResults = new ArrayList<>(chunkSize);
+        boolean truncated = false;
+        int index = 0;
+
+        // readValues iterates the elements of a root-level array, or a sequence of root-level values (NDJSON)
+        try (MappingIterator<ArticleCreateDTO> items = objectMapper.readerFor(ArticleCreateDTO.class).readValues(input)) {
+            while (items.hasNextValue()) {
+                ArticleCreateDTO item;
+                try {
+                    item = items.nextValue();
+                } catch (JsonParseException ex) {
+                    // Malformed JSON leaves no reliable place to resume from
+                    results.add(rejected(index, BulkItemResultDTO.Status.INVALID, Map.of("json", ex.getOriginalMessage())));
+                    truncated = true;
+                    break;
+                } catch (JsonMappingException ex) {
+                    results.add(rejected(index++, BulkItemResultDTO.Status.INVALID, Map.of("json", ex.getOriginalMessage())));
+                    continue;
+                }
+
+                Map<String, String> errors = validate(item);
+                if (!errors.isEmpty()) {
+                    results.add(rejected(index++, BulkItemResultDTO.Status.INVALID, errors));
+                    continue;
+                }
+
+                chunk.add(toArticle(item));
+                BulkItemResultDTO result = BulkItemResultDTO.builder()
+                        .index(index++)
+                        .status(BulkItemResultDTO.Status.CREATED)
+                        .build();
+                chunkResults.add(result);
+                results.add(result);
+
+                if (chunk.size() == chunkSize) {
+                    saveChunk(chunk, chunkResults);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            saveChunk(chunk, chunkResults);
+        }
+
+        int created = (int) results.stream()
+                .filter(result -> result.getStatus() == BulkItemResultDTO.Status.CREATED)
+                .count();
+        log.info("✅ Bulk import finished: {} received, {} created", index, created);
+
+        return BulkImportResultDTO.builder()
+                .received(index)
+                .created(created)
+                .rejected(results.size() - created)
+                .truncated(truncated)
+                .items(results)
+                .build();
+    }
+
+    private void saveChunk(List<Article> chunk, List<BulkItemResultDTO> chunkResults) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                articleRepository.saveAll(chunk);
+                articleRollupService.recordArticles(chunk);
+                eventPublisher.publishEvent(new ArticlesCreatedEvent(List.copyOf(chunk)));
+                // Flush the batched inserts and drop the entities so the persistence context stays small
+                entityManager.flush();
+                entityManager.clear();
+            });
+
+            for (int i = 0; i < chunk.size(); i++) {
+                chunkResults.get(i).setId(chunk.get(i).getId());
+            }
+        } catch (RuntimeException ex) {
+            log.error("❌ Bulk import chunk of {} articles failed: {}", chunk.size(), ex.getMessage());
+            for (BulkItemResultDTO result : chunkResults) {
+                result.setStatus(BulkItemResultDTO.Status.FAILED);
+                result.setErrors(Map.of("error", "Chunk could not be saved: " + ex.getMessage()));
+            }
+        } finally {
+            chunk.clear();
+            chunkResults.clear();
+        }
+    }
+
+    private Map<String, String> validate(ArticleCreateDTO item) {
+        Set<ConstraintViolation<ArticleCreateDTO>> violations = validator.validate(item);
+        Map<String, String> errors = new LinkedHashMap<>();
+        for (ConstraintViolation<ArticleCreateDTO> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return errors;
+    }
+
+    private Article toArticle(ArticleCreateDTO item) {
+        return Article.builder()
+                .title(item.getTitle())
+                .author(item.getAuthor())
+                .content(item.getContent())
+                .publicationDate(item.getPublicationDate())
+                .build();
+    }
+
+    private BulkItemResultDTO rejected(int index, BulkItemResultDTO.Status status, Map<String, String> errors) {
+        return BulkItemResultDTO.builder()
+                .index(index)
+                .status(status)
+                .errors(errors)
+                .build();
+    }
+}
@@ -1,32 +1,56 @@
 package com.example.service.impl;
 
 import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleCursor;
+import com.example.dto.ArticleCursorPageDTO;
 import com.example.dto.ArticleResponseDTO;
+import com.example.dto.ArticleSliceDTO;
 import com.example.dto.ArticleStatisticsDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.dto.StatisticsBucketDTO;
+import com.example.dto.StatisticsGranularity;
+import com.example.exception.ArticleNotFoundException;
+import com.example.exception.InvalidPageRequestException;
 import com.example.model.Article;
+import com.example.model.ArticlesCreatedEvent;
 import com.example.repository.ArticleRepository;
+import com.example.service.ApproximateArticleCount;
+import com.example.service.ArticleRollupService;
 import com.example.service.ArticleService;
+import com.example.service.ArticleTableVersion;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("blog.service")
 @RequiredArgsConstructor
 @Slf4j
 public class ArticleServiceImpl implements ArticleService {
 
+    // Applies to every listing mode; it also bounds what a single entry of the articlePages cache can hold
+    public static final int MAX_PAGE_SIZE = 100;
+
     private final ArticleRepository articleRepository;
+    private final ApproximateArticleCount approximateArticleCount;
+    private final ArticleRollupService articleRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
+    @Transactional
     public ArticleResponseDTO createArticle(ArticleCreateDTO articleCreateDTO) {
         log.info("📝 Creating a new article with title: {}", articleCreateDTO.getTitle());
 
@@ -38,38 +62,136 @@ public class ArticleServiceImpl implements ArticleService {
                 .build();
 
         Article savedArticle = articleRepository.save(article);
+        articleRollupService.recordArticle(savedArticle.getPublicationDate(), savedArticle.getAuthor());
+        eventPublisher.publishEvent(new ArticlesCreatedEvent(List.of(savedArticle)));
         log.info("✅ Article created successfully with ID: {}", savedArticle.getId());
 
         return mapToDTO(savedArticle);
     }
 
     @Override
-    public Page<ArticleResponseDTO> getAllArticles(Pageable pageable) {
+    @Transactional(readOnly = true)
+    public ArticleResponseDTO getArticle(Long id) {
+        log.info("📄 Fetching article with ID: {}", id);
+
+        return articleRepository.findById(id)
+                .map(this::mapToDTO)
+                .orElseThrow(() -> new ArticleNotFoundException(id));
+    }
+
+    @Override
+    @Cacheable(cacheNames = ArticleTableVersion.ARTICLE_PAGES_CACHE,
+            key = "{@articleTableVersion.current(), 'offset', #pageable.pageNumber, #pageable.pageSize}",
+            unless = "!@articleTableVersion.isSettled()")
+    @Transactional(readOnly = true)
+    public Page<ArticleSummaryDTO> getAllArticles(Pageable pageable) {
         log.info("📋 Fetching articles page {} with size {}",
                 pageable.getPageNumber(), pageable.getPageSize());
 
-        return articleRepository.findAllByOrderByPublicationDateDesc(pageable)
-                .map(this::mapToDTO);
+        checkPageSize(pageable.getPageSize());
+        return articleRepository.findSummariesByOrderByPublicationDateDesc(pageable);
     }
 
     @Override
+    @Cacheable(cacheNames = ArticleTableVersion.ARTICLE_PAGES_CACHE,
+            key = "{@articleTableVersion.current(), 'slice', #pageable.pageNumber, #pageable.pageSize}",
+            unless = "!@articleTableVersion.isSettled()")
+    @Transactional(readOnly = true)
+    public ArticleSliceDTO getArticleSlice(Pageable pageable) {
+        log.info("📋 Fetching article slice {} with size {}",
+                pageable.getPageNumber(), pageable.getPageSize());
+
+        checkPageSize(pageable.getPageSize());
+        // A Slice query fetches size + 1 rows to work out hasNext, so no COUNT(*) is issued
+        Slice<ArticleSummaryDTO> slice = articleRepository.findSummarySliceByOrderByPublicationDateDesc(pageable);
+
+        return ArticleSliceDTO.builder()
+                .content(slice.getContent())
+                .number(slice.getNumber())
+                .size(slice.getSize())
+                .hasNext(slice.hasNext())
+                .approximateTotal(approximateArticleCount.get())
+                .build();
+    }
+
+    @Override
+    @Cacheable(cacheNames = ArticleTableVersion.ARTICLE_PAGES_CACHE,
+            key = "{@articleTableVersion.current(), 'cursor', #author, #cursor, #size}",
+            unless = "!@articleTableVersion.isSettled()")
+    @Transactional(readOnly = true)
+    public ArticleCursorPageDTO getArticlesByCursor(String author, String cursor, int size) {
+        log.info("📋 Fetching articles{} after cursor {} with size {}",
+                author != null ? " by " + author : "", cursor, size);
+
+        checkPageSize(size);
+
+        // Fetch one extra row to find out whether another page exists
+        Limit limit = Limit.of(size + 1);
+        // Each query is a range scan of the (publication_date, id) or (author, publication_date, id) index
+        List<ArticleSummaryDTO> articles;
+        boolean firstPage = cursor == null || cursor.isBlank();
+        ArticleCursor position = firstPage ? null : ArticleCursor.decode(cursor);
+        if (author == null) {
+            articles = firstPage
+                    ? articleRepository.findSummariesByOrderByPublicationDateDescIdDesc(limit)
+                    : articleRepository.findSummariesAfter(position.getPublicationDate(), position.getId(), limit);
+        } else {
+            articles = firstPage
+                    ? articleRepository.findSummariesByAuthor(author, limit)
+                    : articleRepository.findSummariesByAuthorAfter(
+                            author, position.getPublicationDate(), position.getId(), limit);
+        }
+
+        boolean hasNext = articles.size() > size;
+        List<ArticleSummaryDTO> pageContent = hasNext ? articles.subList(0, size) : articles;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ArticleSummaryDTO last = pageContent.get(pageContent.size() - 1);
+            nextCursor = new ArticleCursor(last.getPublicationDate(), last.getId()).encode();
+        }
+
+        return ArticleCursorPageDTO.builder()
+                .content(pageContent)
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<ArticleStatisticsDTO> getArticleStatisticsForLast7Days() {
         log.info("📊 Generating article statistics for the last 7 days");
 
         LocalDate today = LocalDate.now();
         LocalDate sevenDaysAgo = today.minusDays(6);
 
-        LocalDateTime startDate = sevenDaysAgo.atStartOfDay();
-        LocalDateTime endDate = today.atTime(LocalTime.MAX);
+        // One zero-filled DAY bucket per day, read from the pre-aggregated rollup
+        return articleRollupService.getStatistics(
+                        sevenDaysAgo.atStartOfDay(), today.plusDays(1).atStartOfDay(), StatisticsGranularity.DAY, false)
+                .stream()
+                .map(bucket -> new ArticleStatisticsDTO(bucket.getBucketStart().toLocalDate(), bucket.getCount()))
+                .collect(Collectors.toList());
+    }
 
-        List<Object[]> results = articleRepository.countArticlesByPublicationDateBetween(startDate, endDate);
-        List<ArticleStatisticsDTO> statistics = convertToStatisticsDTOs(results);
+    @Override
+    @Transactional(readOnly = true)
+    public List<StatisticsBucketDTO> getArticleStatistics(LocalDateTime from, LocalDateTime to,
+                                                          StatisticsGranularity granularity, boolean byAuthor) {
+        log.info("📊 Generating {} article statistics from {} to {}{}",
+                granularity, from, to, byAuthor ? " by author" : "");
 
-        // Fill in missing dates with zero counts
-        return fillMissingDates(statistics, sevenDaysAgo, today);
+        return articleRollupService.getStatistics(from, to, granularity, byAuthor);
     }
 
-    private ArticleResponseDTO mapToDTO(Article article) {
+    private static void checkPageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+    }
+
+    ArticleResponseDTO mapToDTO(Article article) {
         return ArticleResponseDTO.builder()
                 .id(article.getId())
                 .title(article.getTitle())
@@ -80,32 +202,4 @@ public class ArticleServiceImpl implements ArticleService {
                 .updatedAt(article.getUpdatedAt())
                 .build();
     }
-
-    private List<ArticleStatisticsDTO> convertToStatisticsDTOs(List<Object[]> results) {
-        return results.stream()
-                .map(result -> new ArticleStatisticsDTO(
-                        ((java.sql.Date) result[0]).toLocalDate(),
-                        ((Number) result[1]).longValue()))
-                .collect(Collectors.toList());
-    }
-
-    private List<ArticleStatisticsDTO> fillMissingDates(
-            List<ArticleStatisticsDTO> statistics, LocalDate startDate, LocalDate endDate) {
-
-        List<ArticleStatisticsDTO> completedStats = new ArrayList<>();
-        LocalDate currentDate = startDate;
-
-        while (!currentDate.isAfter(endDate)) {
-            final LocalDate dateToFind = currentDate;
-            ArticleStatisticsDTO dayStats = statistics.stream()
-                    .filter(stat -> stat.getDate().equals(dateToFind))
-                    .findFirst()
-                    .orElse(new ArticleStatisticsDTO(currentDate, 0L));
-
-            completedStats.add(dayStats);
-            currentDate = currentDate.plusDays(1);
-        }
-
-        return completedStats;
-    }
 }
\ No newline at end of file
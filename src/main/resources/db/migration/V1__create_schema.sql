@@ -0,0 +1,39 @@
+-- Baseline schema, identical to what Hibernate derives from the entities (checked by ddl-auto=validate)
+
+-- Pooled ids: one sequence call reserves 50 ids (Article.ID_ALLOCATION_SIZE)
+CREATE SEQUENCE articles_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE articles (
+    id               BIGINT       NOT NULL,
+    title            VARCHAR(100) NOT NULL,
+    author           VARCHAR(255) NOT NULL,
+    content          TEXT         NOT NULL,
+    excerpt          VARCHAR(203),
+    publication_date TIMESTAMP(6) NOT NULL,
+    created_at       TIMESTAMP(6),
+    updated_at       TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+-- Global and per-author timelines, matching the ORDER BY publication_date DESC, id DESC of the listings
+CREATE INDEX idx_articles_publication_date_id ON articles (publication_date DESC, id DESC);
+CREATE INDEX idx_articles_author_publication_date_id ON articles (author, publication_date DESC, id DESC);
+
+-- Article counts per bucket; author '' holds the total over all authors
+CREATE TABLE article_rollups (
+    granularity   VARCHAR(5)   NOT NULL CHECK (granularity IN ('HOUR', 'DAY', 'MONTH')),
+    bucket_start  TIMESTAMP(6) NOT NULL,
+    author        VARCHAR(255) NOT NULL,
+    article_count BIGINT       NOT NULL,
+    PRIMARY KEY (granularity, bucket_start, author)
+);
+
+CREATE TABLE users (
+    id        BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    username  VARCHAR(255) NOT NULL UNIQUE,
+    password  VARCHAR(255) NOT NULL,
+    full_name VARCHAR(255) NOT NULL,
+    role      VARCHAR(255) CHECK (role IN ('ROLE_USER', 'ROLE_ADMIN')),
+    enabled   BOOLEAN      NOT NULL,
+    PRIMARY KEY (id)
+);
@@ -0,0 +1,77 @@
+package com.example.config;
+
+import com.example.dto.ArticleResponseDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class JsonFragmentCacheTest {
+
+    private JsonFragmentCache jsonFragmentCache;
+    private ObjectMapper plainMapper;
+    private ObjectMapper cachingMapper;
+    private ArticleSummaryDTO summary;
+
+    @BeforeEach
+    void setUp() {
+        jsonFragmentCache = new JsonFragmentCache(1024 * 1024);
+        plainMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        cachingMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .registerModule(jsonFragmentCache);
+
+        summary = ArticleSummaryDTO.builder()
+                .id(1L)
+                .title("Ünïcode title \"quoted\"")
+                .author("Test Author")
+                .excerpt("Test Content")
+                .publicationDate(LocalDateTime.of(2025, 6, 25, 10, 30))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Cached fragments produce the same JSON as plain serialization")
+    void sameJsonAsPlainSerialization() throws Exception {
+        PageImpl<ArticleSummaryDTO> page = new PageImpl<>(List.of(summary), PageRequest.of(0, 10), 1);
+
+        String expected = plainMapper.writeValueAsString(page.getContent());
+        assertEquals(expected, new String(cachingMapper.writeValueAsBytes(page.getContent()), "UTF-8"));
+        assertEquals(expected, new String(cachingMapper.writeValueAsBytes(page.getContent()), "UTF-8"));
+
+        assertEquals(1, jsonFragmentCache.getFragments().stats().hitCount());
+        assertFalse(expected.contains("updatedAt"));
+    }
+
+    @Test
+    @DisplayName("A new updatedAt renders a new fragment")
+    void updatedArticleRendersAgain() throws Exception {
+        cachingMapper.writeValueAsString(summary);
+
+        summary.setTitle("Edited");
+        summary.setUpdatedAt(LocalDateTime.of(2025, 6, 26, 9, 0));
+
+        assertEquals(plainMapper.writeValueAsString(summary), cachingMapper.writeValueAsString(summary));
+        assertEquals(2, jsonFragmentCache.getFragments().estimatedSize());
+    }
+
+    @Test
+    @DisplayName("Articles without an id are serialized directly")
+    void unsavedArticleIsNotCached() throws Exception {
+        ArticleResponseDTO unsaved = ArticleResponseDTO.builder().title("Draft").build();
+
+        assertEquals(plainMapper.writeValueAsString(unsaved), cachingMapper.writeValueAsString(unsaved));
+        assertEquals(0, jsonFragmentCache.getFragments().estimatedSize());
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.config;
+
+import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.model.Article;
+import com.example.model.User;
+import com.example.service.ArticleTableVersion;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.data.domain.AbstractPageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NativeRuntimeHintsTest {
+
+    private RuntimeHints hints;
+
+    @BeforeEach
+    void setUp() {
+        hints = new RuntimeHints();
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    @DisplayName("Native hints - Jackson can build and read the Lombok DTOs")
+    void dtosAreBindable() throws Exception {
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onConstructor(ArticleCreateDTO.class.getDeclaredConstructor())).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onMethod(ArticleCreateDTO.class, "setTitle")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection()
+                .onMethod(ArticleSummaryDTO.class, "getExcerpt")).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Native hints - entity fields are reachable by Hibernate")
+    void entitiesAreReflective() {
+        assertThat(RuntimeHintsPredicates.reflection().onField(Article.class, "title")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onField(User.class, "password")).accepts(hints);
+    }
+
+    @Test
+    @DisplayName("Native hints - cache key expressions and migrations")
+    void cacheExpressionsAndMigrations() {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(ArticleTableVersion.class, "isSettled")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(AbstractPageRequest.class, "getPageNumber")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__create_schema.sql")).accepts(hints);
+    }
+}
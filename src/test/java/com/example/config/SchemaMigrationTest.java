@@ -0,0 +1,51 @@
+package com.example.config;
+
+import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleStatisticsDTO;
+import com.example.service.ArticleService;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Same schema source and check as the disk profile, on a database of its own
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:migrationdb",
+        "blog.reactive.url=r2dbc:h2:mem:///migrationdb",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@ActiveProfiles("test")
+class SchemaMigrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Test
+    @DisplayName("Migrations - schema matches the entities and takes writes")
+    void migratedSchemaMatchesEntities() {
+        // The context only starts if Hibernate validated every table and column against the migrated schema
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().current().getVersion().getVersion()).isEqualTo("1");
+
+        articleService.createArticle(ArticleCreateDTO.builder()
+                .title("Migrated")
+                .author("Flyway")
+                .content("Stored through the migrated schema")
+                .publicationDate(LocalDateTime.now())
+                .build());
+
+        List<ArticleStatisticsDTO> statistics = articleService.getArticleStatisticsForLast7Days();
+        assertThat(statistics.get(statistics.size() - 1).getCount()).isEqualTo(1L);
+    }
+}
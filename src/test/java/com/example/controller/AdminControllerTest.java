@@ -0,0 +1,104 @@
+package com.example.controller;
+
+import com.example.dto.ExportFormat;
+import com.example.security.SecurityConfig;
+import com.example.security.TokenService;
+import com.example.security.UserDetailsServiceImpl;
+import com.example.service.ArticleExportService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(AdminController.class)
+@Import({ SecurityConfig.class, TokenService.class })
+class AdminControllerTest {
+
+    private static final String ROW = "{\"id\":1,\"title\":\"Test Article\"}\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ArticleExportService articleExportService;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    private void exportWritesRow(ExportFormat format) throws Exception {
+        when(articleExportService.exportArticles(eq(format), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream output = invocation.getArgument(1);
+            output.write(ROW.getBytes(StandardCharsets.UTF_8));
+            return 1L;
+        });
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    @DisplayName("Export NDJSON - streamed as an attachment")
+    void exportNdjson() throws Exception {
+        exportWritesRow(ExportFormat.NDJSON);
+
+        mockMvc.perform(get("/api/admin/articles/export"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.ndjson\""))
+                .andExpect(content().string(ROW));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    @DisplayName("Export CSV with gzip - compressed body")
+    void exportCsvGzip() throws Exception {
+        exportWritesRow(ExportFormat.CSV);
+
+        byte[] body = mockMvc.perform(get("/api/admin/articles/export")
+                        .param("format", "csv")
+                        .param("gzip", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"articles.csv.gz\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertEquals(ROW, new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    @DisplayName("Export with unknown format - bad request")
+    void exportUnknownFormat() throws Exception {
+        mockMvc.perform(get("/api/admin/articles/export").param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid export request"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    @DisplayName("Export - forbidden for regular user")
+    void exportForbiddenForUser() throws Exception {
+        mockMvc.perform(get("/api/admin/articles/export"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(articleExportService);
+    }
+}
@@ -1,9 +1,24 @@
 package com.example.controller;
 
 import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleCursorPageDTO;
 import com.example.dto.ArticleResponseDTO;
+import com.example.dto.ArticleSearchHitDTO;
+import com.example.dto.ArticleSearchResultDTO;
+import com.example.dto.ArticleSliceDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.dto.BulkImportResultDTO;
+import com.example.dto.BulkItemResultDTO;
+import com.example.exception.ArticleNotFoundException;
+import com.example.exception.WriteQueueFullException;
+import com.example.model.ArticlesCreatedEvent;
+import com.example.service.ArticleImportService;
+import com.example.service.ArticleSearchService;
 import com.example.service.ArticleService;
+import com.example.service.ArticleTableVersion;
+import com.example.service.ArticleWriteBehindService;
 import com.example.security.SecurityConfig;
+import com.example.security.TokenService;
 import com.example.security.UserDetailsServiceImpl;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,16 +31,25 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -33,7 +57,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(ArticleController.class)
-@Import({ SecurityConfig.class })
+@Import({ SecurityConfig.class, TokenService.class, ArticleTableVersion.class })
 class ArticleControllerTest {
 
         @Autowired
@@ -42,14 +66,30 @@ class ArticleControllerTest {
         @MockBean
         private ArticleService articleService;
 
+        @MockBean
+        private ArticleImportService articleImportService;
+
+        @MockBean
+        private ArticleWriteBehindService articleWriteBehindService;
+
+        @MockBean
+        private ArticleSearchService articleSearchService;
+
         @MockBean
         private UserDetailsServiceImpl userDetailsService;
 
         @Autowired
         private ObjectMapper objectMapper;
 
+        @Autowired
+        private TokenService tokenService;
+
+        @Autowired
+        private ArticleTableVersion articleTableVersion;
+
         private ArticleCreateDTO validArticleCreateDTO;
         private ArticleResponseDTO sampleArticleResponseDTO;
+        private ArticleSummaryDTO sampleArticleSummaryDTO;
 
         @BeforeEach
         void setUp() {
@@ -68,6 +108,14 @@ class ArticleControllerTest {
                                 .publicationDate(LocalDateTime.now())
                                 .createdAt(LocalDateTime.now())
                                 .build();
+
+                sampleArticleSummaryDTO = ArticleSummaryDTO.builder()
+                                .id(1L)
+                                .title("Test Article")
+                                .author("Test Author")
+                                .excerpt("Test Content")
+                                .publicationDate(LocalDateTime.now())
+                                .build();
         }
 
         @Test
@@ -87,12 +135,77 @@ class ArticleControllerTest {
                                 .andExpect(jsonPath("$.author").value("Test Author"));
         }
 
+        @Test
+        @DisplayName("Create article in write-behind mode - accepted with id")
+        @WithMockUser(authorities = "ROLE_USER")
+        void createArticleWriteBehind() throws Exception {
+                when(articleWriteBehindService.isEnabled()).thenReturn(true);
+                when(articleWriteBehindService.submit(any(ArticleCreateDTO.class)))
+                                .thenReturn(sampleArticleResponseDTO);
+
+                mockMvc.perform(post("/api/articles/create")
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(validArticleCreateDTO)))
+                                .andExpect(status().isAccepted())
+                                .andExpect(header().string(HttpHeaders.LOCATION, "/api/articles/1"))
+                                .andExpect(jsonPath("$.id").value(1));
+
+                verifyNoInteractions(articleService);
+        }
+
+        @Test
+        @DisplayName("Create article in write-behind mode - queue full")
+        @WithMockUser(authorities = "ROLE_USER")
+        void createArticleWriteBehindQueueFull() throws Exception {
+                when(articleWriteBehindService.isEnabled()).thenReturn(true);
+                when(articleWriteBehindService.submit(any(ArticleCreateDTO.class)))
+                                .thenThrow(new WriteQueueFullException("Article write queue is full, retry later"));
+
+                mockMvc.perform(post("/api/articles/create")
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(validArticleCreateDTO)))
+                                .andExpect(status().isTooManyRequests())
+                                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+        }
+
+        @Test
+        @DisplayName("Create article with bearer token - success without user lookup")
+        void createArticleWithBearerToken() throws Exception {
+                String token = tokenService.issueToken(new TestingAuthenticationToken("user", null, "ROLE_USER"))
+                                .getAccessToken();
+                when(articleService.createArticle(any(ArticleCreateDTO.class)))
+                                .thenReturn(sampleArticleResponseDTO);
+
+                mockMvc.perform(post("/api/articles/create")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(validArticleCreateDTO)))
+                                .andExpect(status().isCreated());
+
+                verifyNoInteractions(userDetailsService);
+        }
+
+        @Test
+        @DisplayName("Create article with tampered bearer token - unauthorized")
+        void createArticleWithTamperedToken() throws Exception {
+                String token = tokenService.issueToken(new TestingAuthenticationToken("user", null, "ROLE_USER"))
+                                .getAccessToken();
+
+                mockMvc.perform(post("/api/articles/create")
+                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token + "x")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(validArticleCreateDTO)))
+                                .andExpect(status().isUnauthorized());
+        }
+
         @Test
         @DisplayName("Get all articles - success (public endpoint)")
         @WithAnonymousUser
         void getAllArticlesSuccess() throws Exception {
-                List<ArticleResponseDTO> articles = Arrays.asList(sampleArticleResponseDTO);
-                PageImpl<ArticleResponseDTO> page = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
+                List<ArticleSummaryDTO> articles = Arrays.asList(sampleArticleSummaryDTO);
+                PageImpl<ArticleSummaryDTO> page = new PageImpl<>(articles, PageRequest.of(0, 10), 1);
 
                 when(articleService.getAllArticles(any(Pageable.class))).thenReturn(page);
 
@@ -102,7 +215,168 @@ class ArticleControllerTest {
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.content.length()").value(1))
                                 .andExpect(jsonPath("$.content[0].id").value(1))
-                                .andExpect(jsonPath("$.content[0].title").value("Test Article"));
+                                .andExpect(jsonPath("$.content[0].title").value("Test Article"))
+                                .andExpect(jsonPath("$.content[0].excerpt").value("Test Content"))
+                                .andExpect(jsonPath("$.content[0].content").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Get all articles with current ETag - not modified without a query")
+        @WithAnonymousUser
+        void getAllArticlesNotModified() throws Exception {
+                when(articleService.getAllArticles(any(Pageable.class)))
+                                .thenReturn(new PageImpl<>(List.of(sampleArticleSummaryDTO), PageRequest.of(0, 10), 1));
+
+                String etag = mockMvc.perform(get("/api/articles"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+                mockMvc.perform(get("/api/articles").header(HttpHeaders.IF_NONE_MATCH, etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(content().string(""));
+                verify(articleService, times(1)).getAllArticles(any(Pageable.class));
+
+                // A committed insert changes the validator
+                articleTableVersion.onArticlesCreated(new ArticlesCreatedEvent(List.of()));
+                mockMvc.perform(get("/api/articles").header(HttpHeaders.IF_NONE_MATCH, etag))
+                                .andExpect(status().isOk());
+                verify(articleService, times(2)).getAllArticles(any(Pageable.class));
+        }
+
+        @Test
+        @DisplayName("Get all articles while replicas may lag - no validators and not stored")
+        @WithAnonymousUser
+        void getAllArticlesNotStoredUntilSettled() throws Exception {
+                when(articleService.getAllArticles(any(Pageable.class)))
+                                .thenReturn(new PageImpl<>(List.of(sampleArticleSummaryDTO), PageRequest.of(0, 10), 1));
+                String etag = articleTableVersion.etag();
+
+                articleTableVersion.setReplicaLag(Duration.ofHours(1));
+                try {
+                        mockMvc.perform(get("/api/articles").header(HttpHeaders.IF_NONE_MATCH, etag))
+                                        .andExpect(status().isOk())
+                                        .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                                        .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED))
+                                        .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-store"));
+                } finally {
+                        articleTableVersion.setReplicaLag(Duration.ZERO);
+                }
+        }
+
+        @Test
+        @DisplayName("Search articles - ranked hits (public endpoint)")
+        @WithAnonymousUser
+        void searchArticles() throws Exception {
+                ArticleSearchResultDTO result = ArticleSearchResultDTO.builder()
+                                .query("test")
+                                .totalHits(1)
+                                .page(0)
+                                .size(10)
+                                .hits(List.of(new ArticleSearchHitDTO(1.5f, sampleArticleSummaryDTO)))
+                                .build();
+
+                when(articleSearchService.search("test", 0, 10)).thenReturn(result);
+
+                mockMvc.perform(get("/api/articles/search").param("q", "test"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.totalHits").value(1))
+                                .andExpect(jsonPath("$.hits[0].score").value(1.5))
+                                .andExpect(jsonPath("$.hits[0].article.id").value(1));
+        }
+
+        @Test
+        @DisplayName("Get single article - full content (public endpoint)")
+        @WithAnonymousUser
+        void getArticleSuccess() throws Exception {
+                when(articleService.getArticle(1L)).thenReturn(sampleArticleResponseDTO);
+
+                mockMvc.perform(get("/api/articles/1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.id").value(1))
+                                .andExpect(jsonPath("$.content").value("Test Content"));
+        }
+
+        @Test
+        @DisplayName("Get single article - not found")
+        @WithAnonymousUser
+        void getArticleNotFound() throws Exception {
+                when(articleService.getArticle(99L)).thenThrow(new ArticleNotFoundException(99L));
+
+                mockMvc.perform(get("/api/articles/99"))
+                                .andExpect(status().isNotFound());
+        }
+
+        @Test
+        @DisplayName("Get articles in cursor mode - returns next cursor")
+        @WithAnonymousUser
+        void getArticlesCursorMode() throws Exception {
+                ArticleCursorPageDTO page = ArticleCursorPageDTO.builder()
+                                .content(List.of(sampleArticleSummaryDTO))
+                                .size(1)
+                                .hasNext(true)
+                                .nextCursor("next-token")
+                                .build();
+
+                when(articleService.getArticlesByCursor(isNull(), isNull(), eq(1))).thenReturn(page);
+
+                mockMvc.perform(get("/api/articles")
+                                .param("mode", "cursor")
+                                .param("size", "1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].id").value(1))
+                                .andExpect(jsonPath("$.hasNext").value(true))
+                                .andExpect(jsonPath("$.nextCursor").value("next-token"));
+        }
+
+        @Test
+        @DisplayName("Get articles by author - keyset paging of that author's timeline")
+        @WithAnonymousUser
+        void getArticlesByAuthor() throws Exception {
+                ArticleCursorPageDTO page = ArticleCursorPageDTO.builder()
+                                .content(List.of(sampleArticleSummaryDTO))
+                                .size(10)
+                                .hasNext(false)
+                                .build();
+
+                when(articleService.getArticlesByCursor(eq("Test Author"), isNull(), eq(10))).thenReturn(page);
+
+                mockMvc.perform(get("/api/articles")
+                                .param("author", "Test Author"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].author").value("Test Author"))
+                                .andExpect(jsonPath("$.hasNext").value(false));
+        }
+
+        @Test
+        @DisplayName("Get articles in slice mode - no total count")
+        @WithAnonymousUser
+        void getArticlesSliceMode() throws Exception {
+                ArticleSliceDTO slice = ArticleSliceDTO.builder()
+                                .content(List.of(sampleArticleSummaryDTO))
+                                .number(0)
+                                .size(10)
+                                .hasNext(false)
+                                .approximateTotal(1L)
+                                .build();
+
+                when(articleService.getArticleSlice(any(Pageable.class))).thenReturn(slice);
+
+                mockMvc.perform(get("/api/articles")
+                                .param("mode", "slice"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.content[0].id").value(1))
+                                .andExpect(jsonPath("$.hasNext").value(false))
+                                .andExpect(jsonPath("$.totalElements").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Get articles with unknown mode - bad request")
+        @WithAnonymousUser
+        void getArticlesUnknownMode() throws Exception {
+                mockMvc.perform(get("/api/articles")
+                                .param("mode", "sideways"))
+                                .andExpect(status().isBadRequest());
         }
 
         @Test
@@ -150,4 +424,42 @@ class ArticleControllerTest {
                                 .content(objectMapper.writeValueAsString(validArticleCreateDTO)))
                                 .andExpect(status().isUnauthorized());
         }
-}
\ No newline at end of file
+
+        @Test
+        @DisplayName("Bulk import NDJSON - returns per-item report")
+        @WithMockUser(authorities = "ROLE_USER")
+        void bulkImportNdjson() throws Exception {
+                BulkImportResultDTO result = BulkImportResultDTO.builder()
+                                .received(1)
+                                .created(1)
+                                .items(List.of(BulkItemResultDTO.builder()
+                                                .index(0)
+                                                .status(BulkItemResultDTO.Status.CREATED)
+                                                .id(1L)
+                                                .build()))
+                                .build();
+
+                when(articleImportService.importArticles(any(InputStream.class))).thenReturn(result);
+
+                mockMvc.perform(post("/api/articles/bulk")
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_NDJSON)
+                                .content(objectMapper.writeValueAsString(validArticleCreateDTO) + "\n"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.created").value(1))
+                                .andExpect(jsonPath("$.items[0].status").value("CREATED"))
+                                .andExpect(jsonPath("$.items[0].errors").doesNotExist());
+        }
+
+        @Test
+        @DisplayName("Bulk import without authentication - unauthorized")
+        void bulkImportWithoutAuth() throws Exception {
+                mockMvc.perform(post("/api/articles/bulk")
+                                .with(csrf())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[]"))
+                                .andExpect(status().isUnauthorized());
+
+                verifyNoInteractions(articleImportService);
+        }
+}
@@ -0,0 +1,130 @@
+package com.example.controller;
+
+import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleStatisticsDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.service.ArticleService;
+import com.example.service.ReactiveArticleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReactiveArticleControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ReactiveArticleService reactiveArticleService;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            articleService.createArticle(ArticleCreateDTO.builder()
+                    .title("Reactive " + i)
+                    .author("Reactive Author")
+                    .content("Content " + i)
+                    .publicationDate(now.minusDays(i))
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("Reactive listing - same page as the blocking listing")
+    void listingMatchesBlockingListing() throws Exception {
+        Page<ArticleSummaryDTO> expected = articleService.getAllArticles(PageRequest.of(0, 2));
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/articles").param("size", "2"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].id", is(expected.getContent().get(0).getId().intValue())))
+                .andExpect(jsonPath("$.content[1].id", is(expected.getContent().get(1).getId().intValue())))
+                .andExpect(jsonPath("$.totalElements", is((int) expected.getTotalElements())));
+    }
+
+    @Test
+    @DisplayName("Reactive listing - streams one JSON document per article as NDJSON")
+    void listingStreamsNdjson() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/reactive/articles").param("size", "3")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body.lines()).hasSize(3).allMatch(line -> line.startsWith("{\"id\":"));
+    }
+
+    @Test
+    @DisplayName("Reactive listing - the blocking H2 driver runs off the calling thread")
+    void queriesRunOnReactiveScheduler() {
+        String thread = reactiveArticleService.streamArticles(PageRequest.of(0, 1))
+                .map(article -> Thread.currentThread().getName())
+                .blockFirst();
+
+        assertThat(thread).isNotEqualTo(Thread.currentThread().getName());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    @DisplayName("Reactive statistics - same 7 zero-filled days as the blocking statistics")
+    void statisticsMatchBlockingStatistics() throws Exception {
+        List<ArticleStatisticsDTO> expected = articleService.getArticleStatisticsForLast7Days();
+
+        MvcResult result = mockMvc.perform(get("/api/reactive/statistics"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(7)))
+                .andExpect(jsonPath("$[0].date", is(expected.get(0).getDate().toString())))
+                .andExpect(jsonPath("$[6].date", is(expected.get(6).getDate().toString())))
+                .andExpect(jsonPath("$[6].count", is(expected.get(6).getCount().intValue())))
+                .andExpect(jsonPath("$[5].count", is(expected.get(5).getCount().intValue())));
+    }
+
+    @Test
+    @WithMockUser
+    @DisplayName("Reactive statistics - denied for regular user")
+    void statisticsDeniedForUser() throws Exception {
+        mockMvc.perform(get("/api/reactive/statistics")).andExpect(status().isForbidden());
+    }
+}
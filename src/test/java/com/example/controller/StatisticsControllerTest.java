@@ -1,8 +1,12 @@
 package com.example.controller;
 
 import com.example.dto.ArticleStatisticsDTO;
+import com.example.dto.StatisticsBucketDTO;
+import com.example.dto.StatisticsGranularity;
 import com.example.service.ArticleService;
+import com.example.service.ArticleTableVersion;
 import com.example.security.SecurityConfig;
+import com.example.security.TokenService;
 import com.example.security.UserDetailsServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,20 +15,25 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(StatisticsController.class)
-@Import({ SecurityConfig.class })
+@Import({ SecurityConfig.class, TokenService.class, ArticleTableVersion.class })
 public class StatisticsControllerTest {
 
     @Autowired
@@ -36,6 +45,9 @@ public class StatisticsControllerTest {
     @MockBean
     private UserDetailsServiceImpl userDetailsService;
 
+    @Autowired
+    private TokenService tokenService;
+
     private List<ArticleStatisticsDTO> statisticsDTOs;
     private LocalDate today;
 
@@ -70,6 +82,49 @@ public class StatisticsControllerTest {
                 .andExpect(jsonPath("$[0].count").value(3));
     }
 
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    @DisplayName("Get statistics with current ETag - not modified")
+    void getStatisticsNotModified() throws Exception {
+        when(articleService.getArticleStatisticsForLast7Days()).thenReturn(statisticsDTOs);
+
+        String etag = mockMvc.perform(get("/api/statistics"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/statistics").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+        verify(articleService, times(1)).getArticleStatisticsForLast7Days();
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_ADMIN")
+    @DisplayName("Get range statistics - monthly buckets for admin")
+    void getRangeStatisticsSuccess() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2026, 1, 1, 0, 0);
+        when(articleService.getArticleStatistics(from, to, StatisticsGranularity.MONTH, false))
+                .thenReturn(List.of(new StatisticsBucketDTO(from, null, 4L)));
+
+        mockMvc.perform(get("/api/statistics/range")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2026-01-01T00:00:00")
+                        .param("granularity", "month"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].count").value(4))
+                .andExpect(jsonPath("$[0].author").doesNotExist());
+    }
+
+    @Test
+    @WithMockUser(authorities = "ROLE_USER")
+    @DisplayName("Get range statistics - denied for regular user")
+    void getRangeStatisticsAccessDenied() throws Exception {
+        mockMvc.perform(get("/api/statistics/range")
+                        .param("from", "2025-01-01T00:00:00")
+                        .param("to", "2026-01-01T00:00:00"))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @WithMockUser(authorities = "ROLE_USER")
     @DisplayName("🚨 Get statistics - MUST be denied for regular user")
@@ -79,6 +134,21 @@ public class StatisticsControllerTest {
                 .andExpect(status().isForbidden()); // MUST be 403, not 200!
     }
 
+    @Test
+    @DisplayName("Get statistics - role taken from bearer token")
+    void getStatisticsWithBearerToken() throws Exception {
+        when(articleService.getArticleStatisticsForLast7Days()).thenReturn(statisticsDTOs);
+        String adminToken = tokenService.issueToken(new TestingAuthenticationToken("admin", null, "ROLE_ADMIN"))
+                .getAccessToken();
+        String userToken = tokenService.issueToken(new TestingAuthenticationToken("user", null, "ROLE_USER"))
+                .getAccessToken();
+
+        mockMvc.perform(get("/api/statistics").header(HttpHeaders.AUTHORIZATION, "Bearer " + adminToken))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/statistics").header(HttpHeaders.AUTHORIZATION, "Bearer " + userToken))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("Get statistics - unauthorized without login")
     void getStatisticsUnauthorized() throws Exception {
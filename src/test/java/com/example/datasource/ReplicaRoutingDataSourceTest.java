@@ -0,0 +1,116 @@
+package com.example.datasource;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration REPLICA_LAG = Duration.ofSeconds(5);
+
+    // Caffeine ticker the test moves forward by hand
+    private final AtomicLong nanos = new AtomicLong();
+    private final Ticker ticker = nanos::get;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void setUp() {
+        // Three separate in-memory databases, each knowing its own name
+        DataSource primary = database("primary");
+        List<DataSource> replicas = List.of(database("replica-1"), database("replica-2"));
+
+        DataSource routing = new LazyConnectionDataSourceProxy(
+                new ReplicaRoutingDataSource(primary, replicas, new PrimaryStickiness(REPLICA_LAG, ticker)));
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Routing - read-only transactions take turns on the replicas")
+    void readOnlyGoesToReplicas() {
+        assertThat(List.of(readOnlyNode(), readOnlyNode(), readOnlyNode()))
+                .containsExactly("replica-1", "replica-2", "replica-1");
+    }
+
+    @Test
+    @DisplayName("Routing - read-write transactions and work outside transactions use the primary")
+    void writesGoToPrimary() {
+        String readWriteNode = readWrite.execute(status -> node());
+        assertThat(readWriteNode).isEqualTo("primary");
+        assertThat(node()).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("Routing - a writer reads from the primary until the replica lag has passed")
+    void writerSticksToPrimary() {
+        authenticate("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        assertThat(readOnlyNode()).isEqualTo("primary");
+
+        // Other clients are not affected
+        authenticate("bob");
+        assertThat(readOnlyNode()).startsWith("replica-");
+
+        authenticate("alice");
+        nanos.addAndGet(REPLICA_LAG.toNanos());
+        assertThat(readOnlyNode()).startsWith("replica-");
+    }
+
+    @Test
+    @DisplayName("Routing - anonymous reads never stick")
+    void anonymousReadsUseReplicas() {
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET writes = writes + 1"));
+
+        assertThat(readOnlyNode()).startsWith("replica-");
+    }
+
+    private String readOnlyNode() {
+        return readOnly.execute(status -> node());
+    }
+
+    private String node() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(username, null, "ROLE_USER"));
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("DROP TABLE IF EXISTS node");
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20), writes INT)");
+        jdbc.update("INSERT INTO node VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,311 @@
+package com.example.loadtest;
+
+import com.example.model.Article;
+import com.example.service.ApproximateArticleCount;
+import com.example.service.ArticleIdAllocator;
+import com.example.service.ArticleRollupService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Boots the application on a random port, seeds the in-memory database and
+ * drives a mixed read/write workload against it from local client threads.
+ * Each thread runs a closed loop, so latencies are per request and do not
+ * include time a request would have waited under a fixed arrival rate.
+ * <p>
+ * Only run by the {@code loadtest} Maven profile. Results are printed and
+ * written as HdrHistogram percentile distributions to {@code loadtest.report-dir}.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.example=WARN",
+        "blog.search.rebuild-on-startup=false"
+})
+class ArticleLoadIT {
+
+    private static final String INSERT_SQL = "INSERT INTO articles "
+            + "(id, title, author, content, excerpt, publication_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int SEED_BATCH_SIZE = 1000;
+    private static final int AUTHORS = 50;
+    private static final int LIST_PAGES = 10;
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ArticleIdAllocator articleIdAllocator;
+
+    @Autowired
+    private ArticleRollupService articleRollupService;
+
+    @Autowired
+    private ApproximateArticleCount approximateArticleCount;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Environment environment;
+
+    @Value("${loadtest.articles:10000}")
+    private int articles;
+
+    @Value("${loadtest.concurrency:16}")
+    private int concurrency;
+
+    @Value("${loadtest.warmup-seconds:10}")
+    private int warmupSeconds;
+
+    @Value("${loadtest.duration-seconds:30}")
+    private int durationSeconds;
+
+    @Value("${loadtest.mix:list=60,article=20,create=15,statistics=5}")
+    private String mix;
+
+    @Value("${loadtest.report-dir:target/loadtest}")
+    private Path reportDirectory;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final List<Long> articleIds = new ArrayList<>();
+    private String userToken;
+    private String adminToken;
+
+    enum Operation {
+        LIST, ARTICLE, CREATE, STATISTICS
+    }
+
+    @Test
+    void mixedWorkload() throws Exception {
+        seedArticles();
+        userToken = issueToken("user", "user123");
+        adminToken = issueToken("admin", "admin123");
+        Map<Operation, Integer> weights = parseMix(mix);
+
+        log.warn("🔥 Warming up for {}s with {} clients", warmupSeconds, concurrency);
+        run(weights, Duration.ofSeconds(warmupSeconds));
+
+        log.warn("🚀 Measuring for {}s with {} clients, mix {}", durationSeconds, concurrency, weights);
+        Result result = run(weights, Duration.ofSeconds(durationSeconds));
+        report(result);
+
+        weights.forEach((operation, weight) ->
+                assertTrue(result.latencies().get(operation).getTotalCount() > 0, operation + " never ran"));
+        assertEquals(0, result.errors().values().stream().mapToLong(Long::longValue).sum(),
+                "Requests failed: " + result.errors());
+    }
+
+    private void seedArticles() {
+        log.warn("🌱 Seeding {} articles", articles);
+        LocalDateTime now = Article.currentTimestamp();
+        String content = "Load test article body. ".repeat(40);
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+
+        for (int i = 0; i < articles; i++) {
+            long id = articleIdAllocator.nextId();
+            articleIds.add(id);
+            batch.add(new Object[] {id, "Seeded article " + i, "author-" + i % AUTHORS, content,
+                    Article.excerptOf(content), now.minusMinutes(ThreadLocalRandom.current().nextInt(525_600)), now});
+            if (batch.size() == SEED_BATCH_SIZE || i == articles - 1) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+
+        // Rows went in behind the services' backs, so bring their derived state up to date
+        articleRollupService.rebuild();
+        approximateArticleCount.increment(articles);
+    }
+
+    private Result run(Map<Operation, Integer> weights, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            List<Future<Result>> clients = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                clients.add(executor.submit(() -> runClient(weights, deadline)));
+            }
+
+            // Each client records into its own histograms; merge them once at the end
+            Result total = Result.empty();
+            for (Future<Result> client : clients) {
+                total.add(client.get());
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private Result runClient(Map<Operation, Integer> weights, long deadline) throws Exception {
+        Result result = Result.empty();
+        int totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+
+        while (System.nanoTime() < deadline) {
+            Operation operation = pick(weights, totalWeight);
+            HttpRequest request = request(operation);
+
+            long start = System.nanoTime();
+            HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start);
+
+            result.latencies().get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            if (response.statusCode() >= 300) {
+                result.errors().merge(operation, 1L, Long::sum);
+            }
+        }
+        return result;
+    }
+
+    private HttpRequest request(Operation operation) throws IOException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (operation) {
+            case LIST -> get("/api/articles?page=" + random.nextInt(LIST_PAGES) + "&size=20").build();
+            case ARTICLE -> get("/api/articles/" + articleIds.get(random.nextInt(articleIds.size()))).build();
+            case STATISTICS -> get("/api/statistics").header("Authorization", "Bearer " + adminToken).build();
+            case CREATE -> HttpRequest.newBuilder(uri("/api/articles/create"))
+                    .header("Authorization", "Bearer " + userToken)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(Map.of(
+                            "title", "Load test article",
+                            "author", "author-" + random.nextInt(AUTHORS),
+                            "content", "Written during the load test.",
+                            "publicationDate", LocalDateTime.now().withNano(0).toString()))))
+                    .build();
+        };
+    }
+
+    private String issueToken(String username, String password) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri("/api/auth/token"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                        objectMapper.writeValueAsBytes(Map.of("username", username, "password", password))))
+                .build();
+        HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        assertEquals(200, response.statusCode(), "Token request for " + username + " failed");
+        return objectMapper.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private void report(Result result) throws IOException {
+        Files.createDirectories(reportDirectory);
+        double seconds = durationSeconds;
+
+        String threads = Threading.VIRTUAL.isActive(environment) ? "virtual" : "platform";
+        StringBuilder summary = new StringBuilder(String.format(
+                "%d articles, %d clients, %ds, %s threads%n%-10s %9s %9s %9s %9s %9s %9s %9s %7s%n", articles,
+                concurrency, durationSeconds, threads, "operation", "requests", "req/s", "p50 ms", "p95 ms", "p99 ms",
+                "p999 ms", "max ms", "errors"));
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = result.latencies().get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            summary.append(String.format("%-10s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d%n",
+                    operation.name().toLowerCase(), histogram.getTotalCount(), histogram.getTotalCount() / seconds,
+                    millis(histogram, 50), millis(histogram, 95), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0, result.errors().getOrDefault(operation, 0L)));
+
+            try (PrintStream out = new PrintStream(
+                    reportDirectory.resolve(operation.name().toLowerCase() + ".hgrm").toFile())) {
+                histogram.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+
+        Files.writeString(reportDirectory.resolve("summary.txt"), summary);
+        log.warn("📈 Load test results (latency histograms in {}):\n{}", reportDirectory.toAbsolutePath(), summary);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static Operation pick(Map<Operation, Integer> weights, int totalWeight) {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            roll -= entry.getValue();
+            if (roll < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Weights changed while picking");
+    }
+
+    static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split("=");
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(entry[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix has no positive weights: " + mix);
+        }
+        return weights;
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(uri(path)).GET();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    private record Result(Map<Operation, Histogram> latencies, Map<Operation, Long> errors) {
+
+        static Result empty() {
+            Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+            for (Operation operation : Operation.values()) {
+                latencies.put(operation, new Histogram(HIGHEST_TRACKABLE_MICROS, 3));
+            }
+            return new Result(latencies, new EnumMap<>(Operation.class));
+        }
+
+        void add(Result other) {
+            other.latencies.forEach((operation, histogram) -> latencies.get(operation).add(histogram));
+            other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.monitoring;
+
+import com.example.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryBudgetFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        response = new MockHttpServletResponse();
+    }
+
+    private static MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", path);
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, path);
+        return request;
+    }
+
+    /** A chain that runs {@code queries} statements of 1 ms each and then writes a body. */
+    private static FilterChain runningQueries(int queries) {
+        return (request, response) -> {
+            for (int i = 0; i < queries; i++) {
+                RequestQueryStatistics.current().record(1_000_000L);
+            }
+            response.getWriter().write("{}");
+            response.flushBuffer();
+        };
+    }
+
+    @Test
+    @DisplayName("Within budget - headers and metrics report the statements")
+    void withinBudget() throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(5, true, List.of(), meterRegistry);
+
+        filter.doFilter(request("/api/articles"), response, runningQueries(3));
+
+        assertEquals("3", response.getHeader(QueryBudgetFilter.QUERY_COUNT_HEADER));
+        assertEquals("db;dur=3.00", response.getHeader(QueryBudgetFilter.SERVER_TIMING_HEADER));
+        assertEquals(3.0, meterRegistry.get("blog.request.queries").tag("uri", "/api/articles")
+                .summary().totalAmount());
+        assertNull(RequestQueryStatistics.current());
+    }
+
+    @Test
+    @DisplayName("Over budget - fails when configured to")
+    void overBudgetFails() {
+        QueryBudgetFilter filter = new QueryBudgetFilter(5, true, List.of(), meterRegistry);
+
+        QueryBudgetExceededException exception = assertThrows(QueryBudgetExceededException.class,
+                () -> filter.doFilter(request("/api/articles"), response, runningQueries(6)));
+
+        assertTrue(exception.getMessage().contains("ran 6 SQL statements"));
+        assertEquals("6", response.getHeader(QueryBudgetFilter.QUERY_COUNT_HEADER));
+    }
+
+    @Test
+    @DisplayName("Over budget - only logged by default, and excluded paths are not checked")
+    void overBudgetWarnsOrIsExcluded() {
+        QueryBudgetFilter warning = new QueryBudgetFilter(5, false, List.of(), meterRegistry);
+        QueryBudgetFilter excluding = new QueryBudgetFilter(5, true, List.of("/api/admin/**"), meterRegistry);
+
+        assertDoesNotThrow(() -> warning.doFilter(request("/api/articles"), response, runningQueries(6)));
+        assertDoesNotThrow(() -> excluding.doFilter(
+                request("/api/admin/articles/export"), new MockHttpServletResponse(), runningQueries(6)));
+    }
+}
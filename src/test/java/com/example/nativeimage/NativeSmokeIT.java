@@ -0,0 +1,210 @@
+package com.example.nativeimage;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the native executable built by the {@code native} Maven profile and
+ * replays the controller test scenarios against it over HTTP, so that a type
+ * missing from the native image's reflection hints shows up as a failed
+ * request rather than in production.
+ * <p>
+ * Only run by the {@code native} Maven profile. Startup time and resident
+ * memory are printed and written to {@code target/native/summary.txt}.
+ */
+@Slf4j
+class NativeSmokeIT {
+
+    private static final Duration GIVE_UP_AFTER = Duration.ofMinutes(1);
+    private static final String USER = basic("user", "user123");
+    private static final String ADMIN = basic("admin", "admin123");
+
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static Process app;
+    private static String baseUrl;
+
+    @BeforeAll
+    static void startApplication() throws Exception {
+        Path executable = Path.of(System.getProperty("native.executable"));
+        int port = freePort();
+        baseUrl = "http://localhost:" + port;
+        Path appLog = Path.of("target", "native", "app.log");
+        Files.createDirectories(appLog.getParent());
+
+        long start = System.nanoTime();
+        app = new ProcessBuilder(executable.toString(), "--server.port=" + port)
+                .redirectErrorStream(true)
+                .redirectOutput(appLog.toFile())
+                .start();
+        awaitUsers();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        String summary = String.format("Ready after %d ms, resident memory %s%n", elapsedMillis, residentMemory(app));
+        log.info(summary.trim());
+        Files.writeString(appLog.resolveSibling("summary.txt"), summary);
+    }
+
+    @AfterAll
+    static void stopApplication() throws InterruptedException {
+        if (app != null) {
+            app.destroy();
+            if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                app.destroyForcibly();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Native - create article, then read it back")
+    void createAndGetArticle() throws Exception {
+        HttpResponse<String> created = send(post("/api/articles/create", """
+                {"title": "Native Image", "author": "Smoke Test",
+                 "content": "Compiled ahead of time.", "publicationDate": "2025-06-25T10:30:00"}
+                """).header("Authorization", USER));
+        assertEquals(201, created.statusCode(), created.body());
+        long id = json(created).get("id").asLong();
+
+        HttpResponse<String> article = send(get("/api/articles/" + id));
+        assertEquals(200, article.statusCode(), article.body());
+        assertEquals("Compiled ahead of time.", json(article).get("content").asText());
+    }
+
+    @Test
+    @DisplayName("Native - create article with invalid data, without authentication")
+    void rejectedCreates() throws Exception {
+        HttpResponse<String> invalid = send(post("/api/articles/create", "{\"title\": \"\"}")
+                .header("Authorization", USER));
+        assertEquals(400, invalid.statusCode(), invalid.body());
+
+        HttpResponse<String> anonymous = send(post("/api/articles/create", "{}"));
+        assertEquals(401, anonymous.statusCode());
+    }
+
+    @Test
+    @DisplayName("Native - public listings, search and not found")
+    void publicReads() throws Exception {
+        HttpResponse<String> page = send(get("/api/articles?page=0&size=5"));
+        assertEquals(200, page.statusCode(), page.body());
+        assertTrue(json(page).has("content"), page.body());
+
+        HttpResponse<String> slice = send(get("/api/articles?mode=slice"));
+        assertEquals(200, slice.statusCode(), slice.body());
+
+        HttpResponse<String> reactive = send(get("/api/reactive/articles?page=0&size=5"));
+        assertEquals(200, reactive.statusCode(), reactive.body());
+
+        HttpResponse<String> search = send(get("/api/articles/search?q=native"));
+        assertEquals(200, search.statusCode(), search.body());
+        assertTrue(json(search).get("hits").isArray(), search.body());
+
+        assertEquals(404, send(get("/api/articles/999999999")).statusCode());
+    }
+
+    @Test
+    @DisplayName("Native - statistics for admin, by password and by bearer token, denied for user")
+    void statistics() throws Exception {
+        HttpResponse<String> admin = send(get("/api/statistics").header("Authorization", ADMIN));
+        assertEquals(200, admin.statusCode(), admin.body());
+        assertEquals(7, json(admin).size(), admin.body());
+
+        HttpResponse<String> token = send(post("/api/auth/token", """
+                {"username": "admin", "password": "admin123"}
+                """));
+        assertEquals(200, token.statusCode(), token.body());
+        String accessToken = json(token).get("accessToken").asText();
+        assertFalse(accessToken.isEmpty());
+
+        HttpResponse<String> bearer = send(get("/api/statistics").header("Authorization", "Bearer " + accessToken));
+        assertEquals(200, bearer.statusCode(), bearer.body());
+
+        assertEquals(403, send(get("/api/statistics").header("Authorization", USER)).statusCode());
+        assertEquals(401, send(get("/api/statistics")).statusCode());
+    }
+
+    // The demo users are seeded after the server starts listening, so wait until a login succeeds
+    private static void awaitUsers() throws InterruptedException {
+        HttpRequest.Builder login = post("/api/auth/token", "{\"username\": \"user\", \"password\": \"user123\"}");
+        long deadline = System.nanoTime() + GIVE_UP_AFTER.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new AssertionError("Native executable exited with code " + app.exitValue());
+            }
+            try {
+                if (send(login).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // Tomcat is not accepting connections yet
+            }
+            Thread.sleep(20);
+        }
+        throw new AssertionError("No successful login within " + GIVE_UP_AFTER);
+    }
+
+    private static String residentMemory(Process process) {
+        try {
+            return Files.readAllLines(Path.of("/proc", String.valueOf(process.pid()), "status")).stream()
+                    .filter(line -> line.startsWith("VmRSS:"))
+                    .map(line -> line.substring("VmRSS:".length()).trim())
+                    .findFirst()
+                    .orElse("unknown");
+        } catch (IOException noProcFileSystem) {
+            return "unknown";
+        }
+    }
+
+    private static HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(Duration.ofSeconds(10));
+    }
+
+    private static HttpRequest.Builder post(String path, String json) {
+        return get(path).header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json));
+    }
+
+    private static HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static JsonNode json(HttpResponse<String> response) throws IOException {
+        return objectMapper.readTree(response.body());
+    }
+
+    private static String basic(String username, String password) {
+        return "Basic " + Base64.getEncoder()
+                .encodeToString((username + ":" + password).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.repository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticleRollupCounterImplTest {
+
+    private static final LocalDateTime BUCKET = LocalDateTime.of(2025, 6, 25, 10, 0);
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ArticleRollupCounter articleRollupCounter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE article_rollups (granularity VARCHAR(5), bucket_start TIMESTAMP(6), "
+                + "author VARCHAR(255), article_count BIGINT NOT NULL, "
+                + "PRIMARY KEY (granularity, bucket_start, author))");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        articleRollupCounter = new ArticleRollupCounterImpl(jdbcTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private long count() {
+        return jdbcTemplate.queryForObject("SELECT article_count FROM article_rollups WHERE granularity = 'HOUR' "
+                + "AND bucket_start = ? AND author = 'Jane'", Long.class, BUCKET);
+    }
+
+    @Test
+    @DisplayName("Increment - creates the bucket, then adds to it")
+    void incrementCreatesThenUpdates() {
+        articleRollupCounter.increment("HOUR", BUCKET, "Jane", 1);
+        articleRollupCounter.increment("HOUR", BUCKET, "Jane", 2);
+
+        assertEquals(3, count());
+    }
+
+    @Test
+    @DisplayName("Increment - two transactions creating the same bucket both count")
+    void concurrentCreateOfSameBucket() throws Exception {
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+
+        CompletableFuture<Void> first = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> {
+                    articleRollupCounter.increment("HOUR", BUCKET, "Jane", 1);
+                    firstInserted.countDown();
+                    await(releaseFirst);
+                }));
+        assertTrue(firstInserted.await(5, TimeUnit.SECONDS));
+
+        // Blocks on the first transaction's uncommitted row until it commits
+        CompletableFuture<Void> second = CompletableFuture.runAsync(() -> transactionTemplate.executeWithoutResult(
+                status -> articleRollupCounter.increment("HOUR", BUCKET, "Jane", 1)));
+        Thread.sleep(200);
+        releaseFirst.countDown();
+
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+        assertEquals(2, count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex(3);
+        index.add(1, "Getting Started with Spring Boot", "Spring Boot makes stand-alone applications easy.");
+        index.add(2, "REST API Best Practices", "Design REST APIs for maintainability. Spring helps.");
+        index.add(3, "Database Security", "Encryption, access controls and monitoring for your database.");
+    }
+
+    private List<Long> ids(InvertedIndex.SearchResult result) {
+        return result.hits().stream().map(InvertedIndex.Hit::articleId).toList();
+    }
+
+    @Test
+    @DisplayName("Tokenizer - lower-cases, splits on punctuation and drops stop words")
+    void tokenize() {
+        assertEquals(List.of("stand", "alone", "apps", "café", "2024"),
+                Tokenizer.tokenize("Stand-alone apps, at the Café (2024)!"));
+    }
+
+    @Test
+    @DisplayName("Search - title matches outrank content matches")
+    void titleBoost() {
+        InvertedIndex.SearchResult result = index.search("spring", 0, 10);
+
+        assertEquals(2, result.totalHits());
+        assertEquals(List.of(1L, 2L), ids(result));
+    }
+
+    @Test
+    @DisplayName("Search - any term matches, more matching terms rank higher")
+    void multipleTerms() {
+        InvertedIndex.SearchResult result = index.search("database encryption spring", 0, 10);
+
+        assertEquals(3, result.totalHits());
+        assertEquals(3L, ids(result).get(0));
+    }
+
+    @Test
+    @DisplayName("Search - paging over ranked hits")
+    void paging() {
+        assertEquals(List.of(2L), ids(index.search("spring", 1, 1)));
+        assertTrue(index.search("spring", 2, 1).hits().isEmpty());
+        assertEquals(0, index.search("kubernetes", 0, 10).totalHits());
+        assertEquals(0, index.search("the and", 0, 10).totalHits());
+    }
+
+    @Test
+    @DisplayName("Add - an article already indexed is skipped")
+    void duplicateAdd() {
+        assertFalse(index.add(1, "Getting Started with Spring Boot", "again"));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    @DisplayName("Postings - varint gaps round-trip across many documents")
+    void postingsRoundTrip() {
+        PostingList postings = new PostingList();
+        for (int doc = 0; doc < 100_000; doc += 7) {
+            postings.append(doc, doc % 300 + 1);
+        }
+
+        PostingList.Cursor cursor = postings.cursor();
+        int expectedDoc = 0;
+        while (cursor.next()) {
+            assertEquals(expectedDoc, cursor.doc());
+            assertEquals(expectedDoc % 300 + 1, cursor.frequency());
+            expectedDoc += 7;
+        }
+        assertEquals(100_002, expectedDoc);
+        // Gaps of 7 take one byte, frequencies up to 300 one or two
+        assertTrue(postings.sizeInBytes() <= 14_286 * 3);
+    }
+}
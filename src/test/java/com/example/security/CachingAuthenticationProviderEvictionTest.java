@@ -0,0 +1,65 @@
+package com.example.security;
+
+import com.example.model.User;
+import com.example.repository.UserRepository;
+import com.example.security.CachingAuthenticationProvider.CachedAuthentication;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.DisabledException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class CachingAuthenticationProviderEvictionTest {
+
+    @Autowired
+    private CachingAuthenticationProvider provider;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("User change - cached authentication dropped once the change commits")
+    void evictedAfterCommit() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        provider.authenticate(login());
+        assertTrue(isCached());
+
+        try {
+            transaction.executeWithoutResult(status -> {
+                User user = userRepository.findByUsername("user").orElseThrow();
+                user.setEnabled(false);
+                userRepository.saveAndFlush(user);
+                // Not committed yet, so a login racing this transaction may still see the enabled user
+                assertTrue(isCached());
+            });
+
+            assertFalse(isCached());
+            assertThrows(DisabledException.class, () -> provider.authenticate(login()));
+        } finally {
+            transaction.executeWithoutResult(status ->
+                    userRepository.findByUsername("user").orElseThrow().setEnabled(true));
+        }
+    }
+
+    private boolean isCached() {
+        return provider.getCache().asMap().values().stream()
+                .anyMatch(cached -> ((CachedAuthentication) cached).principal().getUsername().equals("user"));
+    }
+
+    private static UsernamePasswordAuthenticationToken login() {
+        return UsernamePasswordAuthenticationToken.unauthenticated("user", "user123");
+    }
+}
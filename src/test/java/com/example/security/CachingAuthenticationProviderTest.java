@@ -0,0 +1,93 @@
+package com.example.security;
+
+import com.example.model.Role;
+import com.example.model.User;
+import com.example.model.UserChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CachingAuthenticationProviderTest {
+
+    @Mock
+    private UserDetailsServiceImpl userDetailsService;
+
+    private CachingAuthenticationProvider provider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        // Low BCrypt strength keeps the test fast; the cache logic is the same
+        PasswordEncoder passwordEncoder = new BCryptPasswordEncoder(4);
+        provider = new CachingAuthenticationProvider(userDetailsService, passwordEncoder, 100, Duration.ofMinutes(5));
+
+        user = User.builder()
+                .id(1L)
+                .username("user")
+                .password(passwordEncoder.encode("user123"))
+                .fullName("Regular User")
+                .role(Role.ROLE_USER)
+                .enabled(true)
+                .build();
+    }
+
+    @Test
+    @DisplayName("Repeated login - served from cache without loading the user")
+    void repeatedLoginIsCached() {
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(user);
+
+        Authentication first = provider.authenticate(login("user123"));
+        Authentication second = provider.authenticate(login("user123"));
+
+        assertTrue(first.isAuthenticated());
+        assertTrue(second.isAuthenticated());
+        assertEquals("user", second.getName());
+        assertEquals(first.getAuthorities(), second.getAuthorities());
+        verify(userDetailsService, times(1)).loadUserByUsername("user");
+        assertEquals(1L, provider.getCache().stats().hitCount());
+    }
+
+    @Test
+    @DisplayName("Wrong password - rejected and never cached")
+    void wrongPasswordIsNotCached() {
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(user);
+
+        provider.authenticate(login("user123"));
+
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("wrong")));
+        assertThrows(BadCredentialsException.class, () -> provider.authenticate(login("wrong")));
+        assertEquals(1L, provider.getCache().estimatedSize());
+    }
+
+    @Test
+    @DisplayName("User change - cached authentication dropped")
+    void userChangeInvalidatesCache() {
+        when(userDetailsService.loadUserByUsername("user")).thenReturn(user);
+
+        provider.authenticate(login("user123"));
+        provider.onUserChanged(new UserChangedEvent(1L, "renamed"));
+        provider.authenticate(login("user123"));
+
+        verify(userDetailsService, times(2)).loadUserByUsername("user");
+    }
+
+    private UsernamePasswordAuthenticationToken login(String password) {
+        return UsernamePasswordAuthenticationToken.unauthenticated("user", password);
+    }
+}
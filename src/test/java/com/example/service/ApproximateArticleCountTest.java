@@ -0,0 +1,93 @@
+package com.example.service;
+
+import com.example.model.Article;
+import com.example.model.ArticlesCreatedEvent;
+import com.example.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+@SpringJUnitConfig
+class ApproximateArticleCountTest {
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import(ApproximateArticleCount.class)
+    static class Config {
+
+        @Bean
+        DataSource dataSource() {
+            return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource dataSource) {
+            return new DataSourceTransactionManager(dataSource);
+        }
+    }
+
+    @MockBean
+    private ArticleRepository articleRepository;
+
+    @Autowired
+    private ApproximateArticleCount approximateArticleCount;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ArticlesCreatedEvent twoArticles = new ArticlesCreatedEvent(List.of(new Article(), new Article()));
+
+    @BeforeEach
+    void setUp() {
+        // Seeds the count on first use
+        when(articleRepository.count()).thenReturn(5L);
+    }
+
+    @Test
+    @DisplayName("Approximate count - grows once the creating transaction commits")
+    void countsCommittedArticles() {
+        long before = approximateArticleCount.get();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(twoArticles);
+            assertEquals(before, approximateArticleCount.get());
+        });
+
+        assertEquals(before + 2, approximateArticleCount.get());
+    }
+
+    @Test
+    @DisplayName("Approximate count - unchanged when the creating transaction rolls back")
+    void ignoresRolledBackArticles() {
+        long before = approximateArticleCount.get();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventPublisher.publishEvent(twoArticles);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(before, approximateArticleCount.get());
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.service;
+
+import com.example.dto.ExportFormat;
+import com.example.service.impl.ArticleExportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ArticleExportServiceTest {
+
+    private EmbeddedDatabase database;
+    private ArticleExportService articleExportService;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE articles (id BIGINT PRIMARY KEY, title VARCHAR(100), author VARCHAR(255), "
+                + "content CLOB, excerpt VARCHAR(203), publication_date TIMESTAMP(6), created_at TIMESTAMP(6), "
+                + "updated_at TIMESTAMP(6))");
+        jdbcTemplate.update("INSERT INTO articles VALUES (?, ?, ?, ?, ?, ?, ?, ?)", 2L, "Second", "Jane",
+                "Line one\nLine \"two\", quoted", null, LocalDateTime.of(2025, 6, 24, 14, 15),
+                LocalDateTime.of(2025, 6, 24, 14, 16, 0, 500_000_000), null);
+        jdbcTemplate.update("INSERT INTO articles VALUES (?, ?, ?, ?, ?, ?, ?, ?)", 1L, "First", "John",
+                "Plain content", null, LocalDateTime.of(2025, 6, 25, 10, 30),
+                LocalDateTime.of(2025, 6, 25, 10, 31), null);
+
+        articleExportService = new ArticleExportServiceImpl(jdbcTemplate,
+                new DataSourceTransactionManager(database), new ObjectMapper(), 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    private String export(ExportFormat format) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertEquals(2, articleExportService.exportArticles(format, output));
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    @DisplayName("Export NDJSON - one object per line in id order")
+    void exportNdjson() throws Exception {
+        assertEquals("""
+                {"id":1,"title":"First","author":"John","content":"Plain content",\
+                "publicationDate":"2025-06-25T10:30:00","createdAt":"2025-06-25T10:31:00","updatedAt":null}
+                {"id":2,"title":"Second","author":"Jane","content":"Line one\\nLine \\"two\\", quoted",\
+                "publicationDate":"2025-06-24T14:15:00","createdAt":"2025-06-24T14:16:00.5","updatedAt":null}
+                """, export(ExportFormat.NDJSON));
+    }
+
+    @Test
+    @DisplayName("Export CSV - header row and quoted fields")
+    void exportCsv() throws Exception {
+        assertEquals("id,title,author,content,publicationDate,createdAt,updatedAt\r\n"
+                + "1,First,John,Plain content,2025-06-25T10:30:00,2025-06-25T10:31:00,\r\n"
+                + "2,Second,Jane,\"Line one\nLine \"\"two\"\", quoted\",2025-06-24T14:15:00,2025-06-24T14:16:00.5,\r\n",
+                export(ExportFormat.CSV));
+    }
+}
@@ -0,0 +1,145 @@
+package com.example.service;
+
+import com.example.dto.BulkImportResultDTO;
+import com.example.dto.BulkItemResultDTO;
+import com.example.model.Article;
+import com.example.model.ArticlesCreatedEvent;
+import com.example.repository.ArticleRepository;
+import com.example.service.impl.ArticleImportServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleImportServiceTest {
+
+    private static final String VALID =
+            "{\"title\":\"T%d\",\"author\":\"A\",\"content\":\"C\",\"publicationDate\":\"2024-03-01T10:00:00\"}";
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private ArticleRollupService articleRollupService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ArticleImportServiceImpl articleImportService;
+
+    @BeforeEach
+    void setUp() {
+        articleImportService = new ArticleImportServiceImpl(articleRepository, articleRollupService,
+                entityManager, new TransactionTemplate(transactionManager),
+                new ObjectMapper().findAndRegisterModules(),
+                Validation.buildDefaultValidatorFactory().getValidator(), eventPublisher);
+        ReflectionTestUtils.setField(articleImportService, "chunkSize", 2);
+    }
+
+    private void assignIds() {
+        AtomicLong ids = new AtomicLong();
+        when(articleRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Article> articles = invocation.getArgument(0);
+            articles.forEach(article -> article.setId(ids.incrementAndGet()));
+            return articles;
+        });
+    }
+
+    private BulkImportResultDTO importArticles(String body) throws Exception {
+        return articleImportService.importArticles(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Import NDJSON - saves in chunks and reports each item")
+    void importNdjsonInChunks() throws Exception {
+        assignIds();
+
+        BulkImportResultDTO result = importArticles(String.join("\n",
+                VALID.formatted(1), VALID.formatted(2), VALID.formatted(3)));
+
+        assertEquals(3, result.getReceived());
+        assertEquals(3, result.getCreated());
+        assertEquals(List.of(1L, 2L, 3L), result.getItems().stream().map(BulkItemResultDTO::getId).toList());
+        verify(articleRepository, times(2)).saveAll(anyList());
+        verify(articleRollupService, times(2)).recordArticles(anyList());
+        verify(entityManager, times(2)).clear();
+        verify(eventPublisher, times(2)).publishEvent(any(ArticlesCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Import JSON array - invalid items are reported and skipped")
+    void importArrayWithInvalidItems() throws Exception {
+        assignIds();
+
+        BulkImportResultDTO result = importArticles("[" + VALID.formatted(1) + ","
+                + "{\"title\":\"\",\"author\":\"A\",\"content\":\"C\",\"publicationDate\":\"2024-03-01T10:00:00\"},"
+                + "{\"title\":\"T\",\"author\":\"A\",\"content\":\"C\",\"publicationDate\":\"yesterday\"},"
+                + VALID.formatted(4) + "]");
+
+        assertEquals(4, result.getReceived());
+        assertEquals(2, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertEquals(BulkItemResultDTO.Status.INVALID, result.getItems().get(1).getStatus());
+        assertTrue(result.getItems().get(1).getErrors().containsKey("title"));
+        assertEquals(BulkItemResultDTO.Status.INVALID, result.getItems().get(2).getStatus());
+        assertFalse(result.isTruncated());
+        verify(articleRepository, times(1)).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("Import - failed chunk marks its items and later chunks continue")
+    void importWithFailedChunk() throws Exception {
+        when(articleRepository.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("constraint violation"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkImportResultDTO result = importArticles(String.join("\n",
+                VALID.formatted(1), VALID.formatted(2), VALID.formatted(3)));
+
+        assertEquals(1, result.getCreated());
+        assertEquals(BulkItemResultDTO.Status.FAILED, result.getItems().get(0).getStatus());
+        assertEquals(BulkItemResultDTO.Status.FAILED, result.getItems().get(1).getStatus());
+        assertEquals(BulkItemResultDTO.Status.CREATED, result.getItems().get(2).getStatus());
+        verify(eventPublisher, times(1)).publishEvent(any(ArticlesCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Import - malformed JSON stops the import")
+    void importMalformedJson() throws Exception {
+        assignIds();
+
+        BulkImportResultDTO result = importArticles(VALID.formatted(1) + "\n{\"title\": }\n" + VALID.formatted(3));
+
+        assertTrue(result.isTruncated());
+        assertEquals(1, result.getCreated());
+        assertEquals(BulkItemResultDTO.Status.INVALID, result.getItems().get(1).getStatus());
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.service;
+
+import com.example.dto.ArticleSummaryDTO;
+import com.example.model.ArticlesCreatedEvent;
+import com.example.repository.ArticleRepository;
+import com.example.service.impl.ArticleServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class ArticleListingCacheTest {
+
+    @Configuration
+    @EnableCaching
+    @Import(ArticleServiceImpl.class)
+    static class Config {
+
+        // Registered under the bean name the cache keys refer to
+        @Bean
+        ArticleTableVersion articleTableVersion() {
+            return new ArticleTableVersion();
+        }
+
+        @Bean
+        CacheManager cacheManager() {
+            return new ConcurrentMapCacheManager(ArticleTableVersion.ARTICLE_PAGES_CACHE);
+        }
+    }
+
+    @MockBean
+    private ArticleRepository articleRepository;
+
+    @MockBean
+    private ApproximateArticleCount approximateArticleCount;
+
+    @MockBean
+    private ArticleRollupService articleRollupService;
+
+    @Autowired
+    private ArticleService articleService;
+
+    @Autowired
+    private ArticleTableVersion articleTableVersion;
+
+    @BeforeEach
+    void setUp() {
+        when(articleRepository.findSummariesByOrderByPublicationDateDesc(any(Pageable.class)))
+                .thenAnswer(invocation -> new PageImpl<ArticleSummaryDTO>(List.of(), invocation.getArgument(0), 0));
+    }
+
+    @Test
+    @DisplayName("Listing pages - served from cache until articles are created")
+    void pagesCachedUntilWrite() {
+        articleService.getAllArticles(PageRequest.of(0, 10));
+        articleService.getAllArticles(PageRequest.of(0, 10));
+        articleService.getAllArticles(PageRequest.of(1, 10));
+
+        verify(articleRepository, times(2)).findSummariesByOrderByPublicationDateDesc(any(Pageable.class));
+
+        articleTableVersion.onArticlesCreated(new ArticlesCreatedEvent(List.of()));
+        articleService.getAllArticles(PageRequest.of(0, 10));
+
+        verify(articleRepository, times(3)).findSummariesByOrderByPublicationDateDesc(any(Pageable.class));
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.service;
+
+import com.example.dto.StatisticsBucketDTO;
+import com.example.dto.StatisticsGranularity;
+import com.example.exception.InvalidStatisticsRangeException;
+import com.example.model.ArticleRollup;
+import com.example.model.ArticleRollupId;
+import com.example.model.RollupGranularity;
+import com.example.repository.ArticleRollupRepository;
+import com.example.service.ArticleRollupService.RollupSegment;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ArticleRollupServiceTest {
+
+    @Mock
+    private ArticleRollupRepository articleRollupRepository;
+
+    @InjectMocks
+    private ArticleRollupService articleRollupService;
+
+    // Stands in for the caller's transaction, which releases the rebuild lock on completion
+    @BeforeEach
+    void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void endTransaction() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            completeTransaction();
+        }
+    }
+
+    @Test
+    @DisplayName("Plan - whole year is read as month rows")
+    void planWholeYearUsesMonths() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 0, 0);
+        LocalDateTime end = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        List<RollupSegment> segments = ArticleRollupService.plan(start, end, RollupGranularity.MONTH);
+
+        assertEquals(List.of(new RollupSegment(RollupGranularity.MONTH, start, end)), segments);
+    }
+
+    @Test
+    @DisplayName("Plan - ragged edges fall back to days and hours")
+    void planRaggedRangeUsesFinerLevelsAtEdges() {
+        LocalDateTime start = LocalDateTime.of(2025, 1, 30, 22, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 4, 2, 3, 0);
+
+        List<RollupSegment> segments = ArticleRollupService.plan(start, end, RollupGranularity.MONTH);
+
+        assertEquals(List.of(
+                new RollupSegment(RollupGranularity.HOUR, start, LocalDateTime.of(2025, 1, 31, 0, 0)),
+                new RollupSegment(RollupGranularity.DAY, LocalDateTime.of(2025, 1, 31, 0, 0),
+                        LocalDateTime.of(2025, 2, 1, 0, 0)),
+                new RollupSegment(RollupGranularity.MONTH, LocalDateTime.of(2025, 2, 1, 0, 0),
+                        LocalDateTime.of(2025, 4, 1, 0, 0)),
+                new RollupSegment(RollupGranularity.DAY, LocalDateTime.of(2025, 4, 1, 0, 0),
+                        LocalDateTime.of(2025, 4, 2, 0, 0)),
+                new RollupSegment(RollupGranularity.HOUR, LocalDateTime.of(2025, 4, 2, 0, 0), end)),
+                segments);
+    }
+
+    @Test
+    @DisplayName("Get statistics - weekly buckets summed from days and zero-filled")
+    void getWeeklyStatisticsZeroFilled() {
+        // 2025-06-02 is a Monday
+        LocalDateTime from = LocalDateTime.of(2025, 6, 2, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 6, 23, 0, 0);
+
+        when(articleRollupRepository.findBuckets(RollupGranularity.DAY, ArticleRollup.ALL_AUTHORS, from, to))
+                .thenReturn(List.of(
+                        rollup(RollupGranularity.DAY, LocalDateTime.of(2025, 6, 2, 0, 0), 2L),
+                        rollup(RollupGranularity.DAY, LocalDateTime.of(2025, 6, 8, 0, 0), 1L),
+                        rollup(RollupGranularity.DAY, LocalDateTime.of(2025, 6, 20, 0, 0), 4L)));
+
+        List<StatisticsBucketDTO> stats = articleRollupService.getStatistics(from, to, StatisticsGranularity.WEEK, false);
+
+        assertEquals(3, stats.size());
+        assertEquals(3L, stats.get(0).getCount());
+        assertEquals(0L, stats.get(1).getCount());
+        assertEquals(4L, stats.get(2).getCount());
+        assertEquals(LocalDateTime.of(2025, 6, 16, 0, 0), stats.get(2).getBucketStart());
+        assertNull(stats.get(0).getAuthor());
+    }
+
+    @Test
+    @DisplayName("Get statistics - too many buckets rejected")
+    void getStatisticsTooManyBuckets() {
+        LocalDateTime from = LocalDateTime.of(2020, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+        assertThrows(InvalidStatisticsRangeException.class,
+                () -> articleRollupService.getStatistics(from, to, StatisticsGranularity.HOUR, false));
+        verifyNoInteractions(articleRollupRepository);
+    }
+
+    @Test
+    @DisplayName("Record article - every level for the author and for all authors")
+    void recordArticleBumpsEveryLevel() {
+        articleRollupService.recordArticle(LocalDateTime.of(2025, 6, 25, 10, 30), "Jane");
+
+        verify(articleRollupRepository).increment("HOUR", LocalDateTime.of(2025, 6, 25, 10, 0), "Jane", 1);
+        verify(articleRollupRepository).increment("DAY", LocalDateTime.of(2025, 6, 25, 0, 0), "Jane", 1);
+        verify(articleRollupRepository).increment("MONTH", LocalDateTime.of(2025, 6, 1, 0, 0), "Jane", 1);
+        verify(articleRollupRepository, times(3))
+                .increment(anyString(), any(LocalDateTime.class), eq(ArticleRollup.ALL_AUTHORS), eq(1L));
+    }
+
+    @Test
+    @DisplayName("Rebuild - waits for writers whose transaction is still open")
+    void rebuildWaitsForOpenWriters() throws Exception {
+        articleRollupService.recordArticle(LocalDateTime.of(2025, 6, 25, 10, 30), "Jane");
+
+        CompletableFuture<Void> rebuild = CompletableFuture.runAsync(() -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                articleRollupService.rebuild();
+            } finally {
+                completeTransaction();
+            }
+        });
+        Thread.sleep(200);
+        assertFalse(rebuild.isDone());
+        verify(articleRollupRepository, never()).deleteAllRollups();
+
+        completeTransaction();
+        rebuild.get(5, TimeUnit.SECONDS);
+        verify(articleRollupRepository).deleteAllRollups();
+    }
+
+    private static void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+
+    private ArticleRollup rollup(RollupGranularity level, LocalDateTime bucketStart, long count) {
+        return new ArticleRollup(new ArticleRollupId(level, bucketStart, ArticleRollup.ALL_AUTHORS), count);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.service;
+
+import com.example.dto.ArticleSearchResultDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.exception.InvalidPageRequestException;
+import com.example.model.Article;
+import com.example.model.ArticlesCreatedEvent;
+import com.example.repository.ArticleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleSearchServiceTest {
+
+    @Mock
+    private ArticleRepository articleRepository;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ArticleSearchService articleSearchService;
+
+    @BeforeEach
+    void setUp() {
+        articleSearchService = new ArticleSearchService(articleRepository, new JdbcTemplate(dataSource), transactionManager,
+                3, false, 100);
+    }
+
+    private Article article(long id, String title, String content) {
+        return Article.builder().id(id).title(title).author("Test Author").content(content).build();
+    }
+
+    @Test
+    @DisplayName("Search - created articles become searchable and come back in rank order")
+    void searchCreatedArticles() {
+        articleSearchService.onArticlesCreated(new ArticlesCreatedEvent(List.of(
+                article(1L, "Caching basics", "Read-through caches and invalidation."),
+                article(2L, "Indexes", "B-tree indexes, and a word about caching."))));
+        when(articleRepository.findSummariesByIdIn(anyCollection())).thenReturn(List.of(
+                ArticleSummaryDTO.builder().id(2L).title("Indexes").build(),
+                ArticleSummaryDTO.builder().id(1L).title("Caching basics").build()));
+
+        ArticleSearchResultDTO result = articleSearchService.search("caching", 0, 10);
+
+        assertEquals(2, result.getTotalHits());
+        assertEquals(1L, result.getHits().get(0).getArticle().getId());
+        assertEquals(2L, result.getHits().get(1).getArticle().getId());
+        assertEquals(2, articleSearchService.getIndexedArticleCount());
+    }
+
+    @Test
+    @DisplayName("Search - no matches skips the database")
+    void searchWithoutMatches() {
+        ArticleSearchResultDTO result = articleSearchService.search("nothing", 0, 10);
+
+        assertTrue(result.getHits().isEmpty());
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    @DisplayName("Search - page size is bounded")
+    void searchPageSizeBounded() {
+        assertThrows(InvalidPageRequestException.class, () -> articleSearchService.search("x", 0, 101));
+        assertThrows(InvalidPageRequestException.class, () -> articleSearchService.search("x", -1, 10));
+    }
+
+    @Test
+    @DisplayName("Search - offset past the hit limit rejected without overflowing")
+    void searchOffsetBounded() {
+        assertThrows(InvalidPageRequestException.class, () -> articleSearchService.search("x", 101, 100));
+        assertThrows(InvalidPageRequestException.class,
+                () -> articleSearchService.search("x", Integer.MAX_VALUE, 100));
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    @DisplayName("Rebuild - replaces the index with the contents of the table")
+    void rebuildFromDatabase() {
+        EmbeddedDatabase database = new EmbeddedDatabaseBuilder()
+                .setType(EmbeddedDatabaseType.H2)
+                .generateUniqueName(true)
+                .build();
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+            jdbcTemplate.execute("CREATE TABLE articles (id BIGINT PRIMARY KEY, title VARCHAR(100), content CLOB)");
+            jdbcTemplate.update("INSERT INTO articles VALUES (1, 'Caching basics', 'Read-through caches')");
+            jdbcTemplate.update("INSERT INTO articles VALUES (2, 'Indexes', 'B-tree indexes')");
+
+            ArticleSearchService rebuilding = new ArticleSearchService(articleRepository, jdbcTemplate,
+                    new DataSourceTransactionManager(database), 3, true, 1);
+            rebuilding.rebuildWhenReady();
+            when(articleRepository.findSummariesByIdIn(anyCollection()))
+                    .thenReturn(List.of(ArticleSummaryDTO.builder().id(2L).title("Indexes").build()));
+
+            assertEquals(2, rebuilding.getIndexedArticleCount());
+            assertEquals(2L, rebuilding.search("tree", 0, 10).getHits().get(0).getArticle().getId());
+        } finally {
+            database.shutdown();
+        }
+    }
+}
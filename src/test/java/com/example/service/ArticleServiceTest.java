@@ -1,9 +1,18 @@
 package com.example.service;
 
 import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleCursor;
+import com.example.dto.ArticleCursorPageDTO;
 import com.example.dto.ArticleResponseDTO;
+import com.example.dto.ArticleSliceDTO;
 import com.example.dto.ArticleStatisticsDTO;
+import com.example.dto.ArticleSummaryDTO;
+import com.example.dto.StatisticsBucketDTO;
+import com.example.dto.StatisticsGranularity;
+import com.example.exception.ArticleNotFoundException;
+import com.example.exception.InvalidPageRequestException;
 import com.example.model.Article;
+import com.example.model.ArticlesCreatedEvent;
 import com.example.repository.ArticleRepository;
 import com.example.service.impl.ArticleServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,19 +22,27 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -35,11 +52,21 @@ public class ArticleServiceTest {
     @Mock
     private ArticleRepository articleRepository;
 
+    @Mock
+    private ApproximateArticleCount approximateArticleCount;
+
+    @Mock
+    private ArticleRollupService articleRollupService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ArticleServiceImpl articleService;
 
     private ArticleCreateDTO articleCreateDTO;
     private Article article;
+    private ArticleSummaryDTO summary;
     private LocalDateTime now;
 
     @BeforeEach
@@ -61,6 +88,14 @@ public class ArticleServiceTest {
                 .publicationDate(now)
                 .createdAt(now)
                 .build();
+
+        summary = ArticleSummaryDTO.builder()
+                .id(1L)
+                .title("Test Article")
+                .author("Test Author")
+                .excerpt("Test Content")
+                .publicationDate(now)
+                .build();
     }
 
     @Test
@@ -78,24 +113,151 @@ public class ArticleServiceTest {
         assertEquals(article.getPublicationDate(), responseDTO.getPublicationDate());
 
         verify(articleRepository, times(1)).save(any(Article.class));
+        verify(articleRollupService, times(1)).recordArticle(now, "Test Author");
+        verify(eventPublisher, times(1)).publishEvent(new ArticlesCreatedEvent(List.of(article)));
     }
 
     @Test
     @DisplayName("Get all articles - success")
     void getAllArticlesSuccess() {
         Pageable pageable = PageRequest.of(0, 10);
-        List<Article> articles = Arrays.asList(article);
-        Page<Article> articlePage = new PageImpl<>(articles, pageable, articles.size());
+        List<ArticleSummaryDTO> summaries = Arrays.asList(summary);
+        Page<ArticleSummaryDTO> summaryPage = new PageImpl<>(summaries, pageable, summaries.size());
 
-        when(articleRepository.findAllByOrderByPublicationDateDesc(pageable)).thenReturn(articlePage);
+        when(articleRepository.findSummariesByOrderByPublicationDateDesc(pageable)).thenReturn(summaryPage);
 
-        Page<ArticleResponseDTO> responseDTOs = articleService.getAllArticles(pageable);
+        Page<ArticleSummaryDTO> responseDTOs = articleService.getAllArticles(pageable);
 
         assertNotNull(responseDTOs);
         assertEquals(1, responseDTOs.getContent().size());
         assertEquals(article.getTitle(), responseDTOs.getContent().get(0).getTitle());
 
-        verify(articleRepository, times(1)).findAllByOrderByPublicationDateDesc(pageable);
+        verify(articleRepository, times(1)).findSummariesByOrderByPublicationDateDesc(pageable);
+    }
+
+    @Test
+    @DisplayName("Get article - returns full content")
+    void getArticleSuccess() {
+        when(articleRepository.findById(1L)).thenReturn(Optional.of(article));
+
+        ArticleResponseDTO responseDTO = articleService.getArticle(1L);
+
+        assertEquals(article.getContent(), responseDTO.getContent());
+    }
+
+    @Test
+    @DisplayName("Get article - not found")
+    void getArticleNotFound() {
+        when(articleRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThrows(ArticleNotFoundException.class, () -> articleService.getArticle(99L));
+    }
+
+    @Test
+    @DisplayName("Article excerpt - cut on a word boundary")
+    void articleExcerptCutOnWordBoundary() {
+        String content = "word ".repeat(100);
+
+        String excerpt = Article.excerptOf(content);
+
+        assertTrue(excerpt.length() <= Article.EXCERPT_LENGTH + 3);
+        assertTrue(excerpt.endsWith("word..."));
+        assertEquals("Short content", Article.excerptOf("Short content"));
+    }
+
+    @Test
+    @DisplayName("Get article slice - no count query")
+    void getArticleSliceSuccess() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        when(articleRepository.findSummarySliceByOrderByPublicationDateDesc(pageable))
+                .thenReturn(new SliceImpl<>(List.of(summary), pageable, true));
+        when(approximateArticleCount.get()).thenReturn(42L);
+
+        ArticleSliceDTO slice = articleService.getArticleSlice(pageable);
+
+        assertEquals(1, slice.getContent().size());
+        assertTrue(slice.isHasNext());
+        assertEquals(42L, slice.getApproximateTotal());
+        verify(articleRepository, never()).count();
+        verify(articleRepository, never()).findSummariesByOrderByPublicationDateDesc(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Get articles by cursor - first page returns next cursor")
+    void getArticlesByCursorFirstPage() {
+        ArticleSummaryDTO older = ArticleSummaryDTO.builder()
+                .id(2L)
+                .title("Older Article")
+                .author("Test Author")
+                .excerpt("Test Content")
+                .publicationDate(now.minusDays(1))
+                .build();
+
+        when(articleRepository.findSummariesByOrderByPublicationDateDescIdDesc(Limit.of(2)))
+                .thenReturn(Arrays.asList(summary, older));
+
+        ArticleCursorPageDTO page = articleService.getArticlesByCursor(null, null, 1);
+
+        assertEquals(1, page.getContent().size());
+        assertEquals(article.getId(), page.getContent().get(0).getId());
+        assertTrue(page.isHasNext());
+
+        ArticleCursor next = ArticleCursor.decode(page.getNextCursor());
+        assertEquals(article.getPublicationDate(), next.getPublicationDate());
+        assertEquals(article.getId(), next.getId());
+    }
+
+    @Test
+    @DisplayName("Get articles by cursor - seeks past the cursor position")
+    void getArticlesByCursorSeeksPastPosition() {
+        String cursor = new ArticleCursor(now, 5L).encode();
+
+        when(articleRepository.findSummariesAfter(now, 5L, Limit.of(11))).thenReturn(List.of(summary));
+
+        ArticleCursorPageDTO page = articleService.getArticlesByCursor(null, cursor, 10);
+
+        assertEquals(1, page.getContent().size());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        verify(articleRepository, never()).findSummariesByOrderByPublicationDateDescIdDesc(any(Limit.class));
+    }
+
+    @Test
+    @DisplayName("Get articles by cursor - author timeline uses the author queries")
+    void getArticlesByCursorForAuthor() {
+        String cursor = new ArticleCursor(now, 5L).encode();
+
+        when(articleRepository.findSummariesByAuthor("Test Author", Limit.of(2))).thenReturn(List.of(summary));
+        when(articleRepository.findSummariesByAuthorAfter("Test Author", now, 5L, Limit.of(2)))
+                .thenReturn(List.of());
+
+        assertEquals(1, articleService.getArticlesByCursor("Test Author", null, 1).getContent().size());
+        assertTrue(articleService.getArticlesByCursor("Test Author", cursor, 1).getContent().isEmpty());
+        verify(articleRepository, never()).findSummariesByOrderByPublicationDateDescIdDesc(any(Limit.class));
+        verify(articleRepository, never()).findSummariesAfter(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Get articles by cursor - page size out of range")
+    void getArticlesByCursorSizeOutOfRange() {
+        int tooLarge = ArticleServiceImpl.MAX_PAGE_SIZE + 1;
+
+        assertThrows(InvalidPageRequestException.class, () -> articleService.getArticlesByCursor(null, null, 0));
+        assertThrows(InvalidPageRequestException.class, () -> articleService.getArticlesByCursor(null, null, tooLarge));
+        assertThrows(InvalidPageRequestException.class,
+                () -> articleService.getArticlesByCursor(null, null, Integer.MAX_VALUE));
+        verifyNoInteractions(articleRepository);
+    }
+
+    @Test
+    @DisplayName("Get articles and slice - page size above the limit")
+    void getArticlesPageSizeTooLarge() {
+        Pageable tooLarge = PageRequest.of(0, ArticleServiceImpl.MAX_PAGE_SIZE + 1);
+
+        assertThrows(InvalidPageRequestException.class, () -> articleService.getAllArticles(tooLarge));
+        assertThrows(InvalidPageRequestException.class, () -> articleService.getArticleSlice(tooLarge));
+        verifyNoInteractions(articleRepository);
     }
 
     @Test
@@ -104,16 +266,17 @@ public class ArticleServiceTest {
         LocalDate today = LocalDate.now();
         LocalDate yesterday = today.minusDays(1);
 
-        LocalDateTime startDate = today.minusDays(6).atStartOfDay();
-        LocalDateTime endDate = today.atTime(LocalTime.MAX);
+        LocalDateTime from = today.minusDays(6).atStartOfDay();
+        LocalDateTime to = today.plusDays(1).atStartOfDay();
 
-        Object[] todayStats = new Object[] { java.sql.Date.valueOf(today), 3L };
-        Object[] yesterdayStats = new Object[] { java.sql.Date.valueOf(yesterday), 2L };
-        List<Object[]> mockResults = Arrays.asList(todayStats, yesterdayStats);
+        // The rollup service returns zero-filled day buckets
+        List<StatisticsBucketDTO> buckets = new ArrayList<>();
+        for (LocalDate day = today.minusDays(6); !day.isAfter(today); day = day.plusDays(1)) {
+            long count = day.equals(today) ? 3L : day.equals(yesterday) ? 2L : 0L;
+            buckets.add(new StatisticsBucketDTO(day.atStartOfDay(), null, count));
+        }
 
-        when(articleRepository.countArticlesByPublicationDateBetween(any(LocalDateTime.class),
-                any(LocalDateTime.class)))
-                .thenReturn(mockResults);
+        when(articleRollupService.getStatistics(from, to, StatisticsGranularity.DAY, false)).thenReturn(buckets);
 
         List<ArticleStatisticsDTO> stats = articleService.getArticleStatisticsForLast7Days();
 
@@ -136,7 +299,7 @@ public class ArticleServiceTest {
 
         assert foundToday && foundYesterday;
 
-        verify(articleRepository, times(1))
-                .countArticlesByPublicationDateBetween(any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(articleRollupService, times(1)).getStatistics(from, to, StatisticsGranularity.DAY, false);
+        verifyNoInteractions(articleRepository);
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleTableVersionPollerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ArticleTableVersion articleTableVersion;
+
+    @Test
+    @DisplayName("Poll - bumps the version only when the article count moved")
+    void bumpsOnChange() {
+        when(jdbcTemplate.queryForObject(ArticleTableVersionPoller.COUNT_SQL, Long.class))
+                .thenReturn(10L, 10L, 12L, 12L);
+        ArticleTableVersionPoller poller =
+                new ArticleTableVersionPoller(jdbcTemplate, articleTableVersion, Duration.ofSeconds(5));
+
+        poller.poll(); // first poll only records the count
+        poller.poll();
+        verify(articleTableVersion, never()).onExternalChange();
+
+        poller.poll();
+        poller.poll();
+        verify(articleTableVersion, times(1)).onExternalChange();
+    }
+}
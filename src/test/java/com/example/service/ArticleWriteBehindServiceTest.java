@@ -0,0 +1,156 @@
+package com.example.service;
+
+import com.example.dto.ArticleCreateDTO;
+import com.example.dto.ArticleResponseDTO;
+import com.example.exception.WriteQueueFullException;
+import com.example.model.ArticlesCreatedEvent;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArticleWriteBehindServiceTest {
+
+    @Mock
+    private ArticleIdAllocator articleIdAllocator;
+
+    @Mock
+    private ArticleRollupService articleRollupService;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private ArticleWriteBehindService writeBehindService;
+    private ArticleCreateDTO articleCreateDTO;
+
+    @BeforeEach
+    void setUp() {
+        writeBehindService = new ArticleWriteBehindService(articleIdAllocator, articleRollupService,
+                jdbcTemplate, new TransactionTemplate(transactionManager), eventPublisher, true, 3, 2);
+
+        AtomicLong ids = new AtomicLong(100);
+        lenient().when(articleIdAllocator.nextId()).thenAnswer(invocation -> ids.getAndIncrement());
+
+        articleCreateDTO = ArticleCreateDTO.builder()
+                .title("Test Article")
+                .author("Test Author")
+                .content("Test Content")
+                .publicationDate(LocalDateTime.now())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (writeBehindService.isRunning()) {
+            writeBehindService.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Submit - assigns the id up front")
+    void submitAssignsId() {
+        writeBehindService.start();
+
+        ArticleResponseDTO accepted = writeBehindService.submit(articleCreateDTO);
+
+        assertEquals(100L, accepted.getId());
+        assertEquals("Test Article", accepted.getTitle());
+    }
+
+    @Test
+    @DisplayName("Submit - rejected when not running")
+    void submitWhenStopped() {
+        assertThrows(WriteQueueFullException.class, () -> writeBehindService.submit(articleCreateDTO));
+    }
+
+    @Test
+    @DisplayName("Stop - drains the queue in batches")
+    void stopDrainsQueue() {
+        writeBehindService.start();
+        for (int i = 0; i < 3; i++) {
+            writeBehindService.submit(articleCreateDTO);
+        }
+
+        writeBehindService.stop();
+
+        assertEquals(0, writeBehindService.getQueueSize());
+        verify(jdbcTemplate, atLeast(2)).batchUpdate(anyString(), anyList());
+        verify(articleRollupService, atLeast(2)).recordArticles(anyList());
+        verify(eventPublisher, atLeast(2)).publishEvent(any(ArticlesCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Submit - queue full while the writer is busy")
+    void submitWhenQueueFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return new int[0];
+        });
+        writeBehindService.start();
+
+        writeBehindService.submit(articleCreateDTO);
+        writing.await();
+        for (int i = 0; i < 3; i++) {
+            writeBehindService.submit(articleCreateDTO);
+        }
+
+        assertThrows(WriteQueueFullException.class, () -> writeBehindService.submit(articleCreateDTO));
+
+        release.countDown();
+        writeBehindService.stop();
+        verify(eventPublisher, times(3)).publishEvent(any(ArticlesCreatedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Write - a failed batch is retried row by row, so only the bad article is lost")
+    void failedBatchRetriedRowByRow() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataIntegrityViolationException("Value too long for column AUTHOR"));
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            if (Long.valueOf(101).equals(invocation.getArgument(1))) {
+                throw new DataIntegrityViolationException("Value too long for column AUTHOR");
+            }
+            return 1;
+        });
+        writeBehindService.start();
+        for (int i = 0; i < 2; i++) {
+            writeBehindService.submit(articleCreateDTO);
+        }
+
+        writeBehindService.stop();
+
+        // Article 100 is saved on its own, article 101 is dropped
+        verify(jdbcTemplate, times(2)).update(anyString(), any(Object[].class));
+        verify(articleRollupService).recordArticles(argThat(articles ->
+                articles.size() == 1 && articles.iterator().next().getId() == 100L));
+        verify(articleRollupService, times(1)).recordArticles(anyList());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.startup;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Starts the jar built by the {@code fast-start} Maven profile in its own JVM,
+ * the way the README tells you to run it, and measures how long it takes until
+ * {@code GET /api/articles} answers. The build fails if that exceeds
+ * {@code startup.budget-ms}.
+ * <p>
+ * Only run by the {@code fast-start} Maven profile. The result is printed and
+ * written to {@code target/startup/summary.txt}.
+ */
+@Slf4j
+class StartupTimeIT {
+
+    private static final Duration GIVE_UP_AFTER = Duration.ofMinutes(2);
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void firstRequestWithinBudget() throws Exception {
+        Path jar = Path.of(System.getProperty("startup.jar"));
+        Path archive = Path.of(System.getProperty("startup.archive"));
+        long budgetMillis = Long.parseLong(System.getProperty("startup.budget-ms"));
+        int port = freePort();
+
+        List<String> command = List.of(
+                Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                "-XX:SharedArchiveFile=" + archive,
+                "-Xlog:cds=error",
+                "-Dspring.aot.enabled=true",
+                "-jar", jar.toString(),
+                "--spring.profiles.active=fast-start",
+                "--server.port=" + port);
+        Path appLog = Path.of("target", "startup", "app.log");
+        Files.createDirectories(appLog.getParent());
+
+        long start = System.nanoTime();
+        Process app = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(appLog.toFile())
+                .start();
+        long elapsedMillis;
+        try {
+            awaitFirstResponse(app, port);
+            elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            app.destroy();
+            if (!app.waitFor(30, TimeUnit.SECONDS)) {
+                app.destroyForcibly();
+            }
+        }
+
+        String summary = String.format("Time to first request: %d ms (budget %d ms)%n", elapsedMillis, budgetMillis);
+        log.info(summary.trim());
+        Files.writeString(appLog.resolveSibling("summary.txt"), summary);
+
+        assertTrue(elapsedMillis <= budgetMillis,
+                "First request answered after " + elapsedMillis + " ms, budget is " + budgetMillis + " ms; see " + appLog);
+    }
+
+    private void awaitFirstResponse(Process app, int port) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/articles"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.nanoTime() + GIVE_UP_AFTER.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!app.isAlive()) {
+                throw new AssertionError("Application exited with code " + app.exitValue() + " before answering");
+            }
+            try {
+                if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException notListeningYet) {
+                // Tomcat is not accepting connections yet
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("No answer within " + GIVE_UP_AFTER);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}